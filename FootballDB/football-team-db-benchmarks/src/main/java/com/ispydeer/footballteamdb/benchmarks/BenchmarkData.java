@@ -0,0 +1,88 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final Position[] POSITIONS = Position.values();
+
+    private BenchmarkData() {
+    }
+
+    static Club club(int index) {
+        return Club.builder()
+                .name("Club " + index)
+                .shortName("C" + index)
+                .foundingDate(LocalDate.of(1880 + index % 120, 1 + index % 12, 1 + index % 28))
+                .totalTrophies(index % 100)
+                .build();
+    }
+
+    static ClubDto clubDto(int index) {
+        return ClubDto.builder()
+                .name("Club " + index)
+                .shortName("C" + index)
+                .foundingDate(LocalDate.of(1880 + index % 120, 1 + index % 12, 1 + index % 28))
+                .totalTrophies(index % 100)
+                .build();
+    }
+
+    static Player player(int index) {
+        return Player.builder()
+                .firstName("First" + index)
+                .lastName("Last" + index)
+                .birthDate(LocalDate.of(1980 + index % 25, 1 + index % 12, 1 + index % 28))
+                .position(POSITIONS[index % POSITIONS.length])
+                .club(club(index))
+                .build();
+    }
+
+    static PlayerDto playerDto(int index) {
+        return PlayerDto.builder()
+                .firstName("First" + index)
+                .lastName("Last" + index)
+                .birthDate(LocalDate.of(1980 + index % 25, 1 + index % 12, 1 + index % 28))
+                .position(POSITIONS[index % POSITIONS.length])
+                .club(clubDto(index))
+                .build();
+    }
+
+    /**
+     * Creates detached players with IDs already assigned, as they would be after being loaded from the database.
+     *
+     * @param count the number of players
+     * @return the list of players
+     */
+    static List<Player> loadedPlayers(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Player player = player(i);
+            player.setId((long) i + 1);
+            player.getClub().setId((long) i + 1);
+            players.add(player);
+        }
+        return players;
+    }
+
+    static List<PlayerDto> playerDtos(int count) {
+        List<PlayerDto> playerDtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PlayerDto playerDto = playerDto(i);
+            playerDto.setId((long) i + 1);
+            playerDto.getClub().setId((long) i + 1);
+            playerDtos.add(playerDto);
+        }
+        return playerDtos;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.services.ClubService;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of concurrent player writes that all refer to one popular club, with the club assigned by reference
+ * against the cascading mode that applies the nested club to the club row. Every request carries the club as its
+ * client last read it, in one of two spellings, so in cascade mode the writes keep updating the club row and
+ * conflict on its version; the {@code conflicts} counter reports those failed writes. Every thread updates its own
+ * player, so conflicts only come from the club. Statements per player write are printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClubAssociationBenchmark {
+
+    @Param({"cascade", "reference"})
+    private String clubAssociation;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private Statistics statistics;
+    private ClubDto club;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Writer {
+        public long conflicts;
+        private long playerId;
+
+        @Setup
+        public void setUp(ClubAssociationBenchmark benchmark) {
+            playerId = benchmark.createPlayer(benchmark.counter.incrementAndGet()).getId();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start("footballdb.players.club-association=" + clubAssociation);
+        playerService = context.getBean(PlayerService.class);
+        club = context.getBean(ClubService.class).createClub(BenchmarkData.clubDto(0));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        EntityStatistics players = statistics.getEntityStatistics(Player.class.getName());
+        long playerWrites = players.getInsertCount() + players.getUpdateCount();
+        System.out.printf("%n%s: %.2f statements per player write, %d club updates%n", clubAssociation,
+                (double) statistics.getPrepareStatementCount() / Math.max(1, playerWrites),
+                statistics.getEntityStatistics(Club.class.getName()).getUpdateCount());
+        context.close();
+    }
+
+    @Benchmark
+    public PlayerDto createPlayer(Writer writer) {
+        try {
+            return createPlayer(counter.incrementAndGet());
+        } catch (OptimisticLockingFailureException e) {
+            writer.conflicts++;
+            return null;
+        }
+    }
+
+    @Benchmark
+    public PlayerDto updatePlayer(Writer writer) {
+        int index = counter.incrementAndGet();
+        PlayerDto update = PlayerDto.builder().firstName("First" + index).club(clubSnapshot(index)).build();
+        try {
+            return playerService.partialUpdatePlayer(update, writer.playerId).orElseThrow();
+        } catch (OptimisticLockingFailureException e) {
+            writer.conflicts++;
+            return null;
+        }
+    }
+
+    private PlayerDto createPlayer(int index) {
+        PlayerDto player = BenchmarkData.playerDto(index);
+        player.setClub(clubSnapshot(index));
+        return playerService.createPlayer(player);
+    }
+
+    private ClubDto clubSnapshot(int index) {
+        return ClubDto.builder()
+                .id(club.getId())
+                .name(index % 2 == 0 ? club.getName() : club.getName().toUpperCase())
+                .shortName(club.getShortName())
+                .foundingDate(club.getFoundingDate())
+                .totalTrophies(club.getTotalTrophies())
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.FootballDbApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Starts the application against a fresh in-memory H2 database, either without the web layer,
+ * so service benchmarks run the real repositories, transactions and mappers, or with an HTTP server for load tests.
+ */
+final class EmbeddedApplication {
+
+    private EmbeddedApplication() {
+    }
+
+    /**
+     * Starts a new application context.
+     *
+     * @param properties additional properties in {@code key=value} form, replacing the defaults with the same key
+     * @return the started application context, to be closed by the caller
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, context -> {
+        }, properties);
+    }
+
+    /**
+     * Starts a new application context with an embedded web server on a random port,
+     * available from the {@code local.server.port} property of the context's environment.
+     *
+     * @param properties additional properties in {@code key=value} form, replacing the defaults with the same key
+     * @return the started application context, to be closed by the caller
+     */
+    static ConfigurableApplicationContext startServer(String... properties) {
+        return startServer(context -> {
+        }, properties);
+    }
+
+    /**
+     * Starts a new application context with an embedded web server on a random port, customized before it is refreshed,
+     * for instance to register bean post processors.
+     *
+     * @param initializer the callback applied to the context before it is refreshed
+     * @param properties  additional properties in {@code key=value} form, replacing the defaults with the same key
+     * @return the started application context, to be closed by the caller
+     */
+    static ConfigurableApplicationContext startServer(ApplicationContextInitializer<ConfigurableApplicationContext> initializer,
+                                                      String... properties) {
+        List<String> arguments = new ArrayList<>(List.of("server.port=0"));
+        arguments.addAll(List.of(properties));
+        return start(WebApplicationType.SERVLET, initializer, arguments.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType,
+                                                        ApplicationContextInitializer<ConfigurableApplicationContext> initializer,
+                                                        String... properties) {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        for (String property : List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                // schema generated from the entities, so benchmarks can change the id allocation sizes
+                "spring.flyway.enabled=false",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN")) {
+            put(arguments, property);
+        }
+        for (String property : properties) {
+            put(arguments, property);
+        }
+        // passed as command line arguments so they take precedence over application.properties
+        return new SpringApplicationBuilder(FootballDbApplication.class)
+                .web(webApplicationType)
+                .initializers(initializer)
+                .run(arguments.entrySet().stream()
+                        .map(argument -> "--" + argument.getKey() + "=" + argument.getValue())
+                        .toArray(String[]::new));
+    }
+
+    private static void put(Map<String, String> arguments, String property) {
+        int separator = property.indexOf('=');
+        arguments.put(property.substring(0, separator), property.substring(separator + 1));
+    }
+}
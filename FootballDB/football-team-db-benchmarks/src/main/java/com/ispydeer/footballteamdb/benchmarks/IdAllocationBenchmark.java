@@ -0,0 +1,71 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.services.ClubService;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Insert throughput of {@code createPlayer} and {@code createClub} from concurrent threads,
+ * with an allocation size of 1 (one sequence call per insert) against pooled-lo blocks.
+ * Creating a player also creates its club, so it draws from both sequences.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdAllocationBenchmark {
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private ClubService clubService;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start(
+                "spring.jpa.properties.footballdb.id.allocation-size.player_seq=" + allocationSize,
+                "spring.jpa.properties.footballdb.id.allocation-size.club_seq=" + allocationSize);
+        playerService = context.getBean(PlayerService.class);
+        clubService = context.getBean(ClubService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PlayerDto createPlayer() {
+        return playerService.createPlayer(BenchmarkData.playerDto(counter.incrementAndGet()));
+    }
+
+    @Benchmark
+    public ClubDto createClub() {
+        return clubService.createClub(BenchmarkData.clubDto(counter.incrementAndGet()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.config.MapperConfig;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.mappers.PlayerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a whole list of loaded players to DTOs, as {@code PlayerService.retrieveAllPlayers} does,
+ * without the database in the way.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Param({"generated", "modelmapper"})
+    private String strategy;
+
+    private PlayerMapper playerMapper;
+    private List<Player> players;
+
+    @Setup
+    public void setUp() {
+        MapperConfig mapperConfig = new MapperConfig();
+        playerMapper = strategy.equals("generated")
+                ? mapperConfig.generatedPlayerMapper()
+                : mapperConfig.modelMapperPlayerMapper(mapperConfig.modelMapper());
+        players = BenchmarkData.loadedPlayers(size);
+    }
+
+    @Benchmark
+    public List<PlayerDto> mapPlayerList() {
+        List<PlayerDto> playerList = new ArrayList<>();
+        for (Player player : players) {
+            playerList.add(playerMapper.toDto(player));
+        }
+        return playerList;
+    }
+}
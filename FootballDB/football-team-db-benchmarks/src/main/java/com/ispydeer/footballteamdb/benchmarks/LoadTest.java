@@ -0,0 +1,164 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test of {@code GET /players}: a fixed number of concurrent clients each send
+ * a request as soon as the previous one has been answered. Run it once per threading mode and compare
+ * the throughput and latency percentiles it prints.
+ * <pre>
+ * java -cp benchmarks.jar com.ispydeer.footballteamdb.benchmarks.LoadTest [platform|virtual] [clients] [seconds] [db-latency-ms]
+ * </pre>
+ * Every statement against the embedded H2 database is delayed by {@code db-latency-ms} (5 by default) through a
+ * {@link SimulatedLatencyDataSource}, so that request threads block on the database as they would on a real server.
+ * With 0, or a {@code spring.datasource.url} of a real database, statements are not delayed.
+ * Additional arguments are passed to the application as {@code key=value} properties.
+ * A client whose request failed backs off exponentially before its next request, from 10 ms up to 1 s.
+ */
+public final class LoadTest {
+
+    private static final int PLAYERS = 1000;
+    private static final int PAGE_SIZE = 100;
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(10);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(1);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "virtual";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        Duration dbLatency = Duration.ofMillis(args.length > 3 ? Long.parseLong(args[3]) : 5);
+
+        List<String> properties = new ArrayList<>(List.of("spring.threads.virtual.enabled=" + mode.equals("virtual")));
+        properties.addAll(Arrays.asList(args).subList(Math.min(args.length, 4), args.length));
+        boolean embeddedDatabase = properties.stream().noneMatch(property -> property.startsWith("spring.datasource.url="));
+        Duration simulatedLatency = embeddedDatabase ? dbLatency : Duration.ZERO;
+
+        try (ConfigurableApplicationContext context = EmbeddedApplication.startServer(
+                applicationContext -> delayStatements(applicationContext, simulatedLatency), properties.toArray(String[]::new))) {
+            List<Player> players = new ArrayList<>(PLAYERS);
+            for (int i = 0; i < PLAYERS; i++) {
+                players.add(BenchmarkData.player(i));
+            }
+            context.getBean(PlayerRepository.class).saveAll(players);
+
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/players?limit=" + PAGE_SIZE);
+            run(uri, clients, Math.max(1, seconds / 5));
+            Result result = run(uri, clients, seconds);
+
+            long[] latencies = result.latencies();
+            System.out.printf("mode=%s clients=%d duration=%ds db-latency=%dms%n", mode, clients, seconds,
+                    simulatedLatency.toMillis());
+            System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                    latencies.length, result.errors(), latencies.length / (double) seconds);
+            System.out.printf("latency p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+        }
+    }
+
+    private static Result run(URI uri, int clients, int seconds) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(executor).build()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    Duration backoff = MIN_BACKOFF;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        boolean succeeded;
+                        try {
+                            succeeded = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            succeeded = false;
+                        }
+                        if (!succeeded) {
+                            // an overloaded server is not hammered with retries, which would only count more errors
+                            errors.incrementAndGet();
+                            Thread.sleep(backoff);
+                            Duration doubled = backoff.multipliedBy(2);
+                            backoff = doubled.compareTo(MAX_BACKOFF) < 0 ? doubled : MAX_BACKOFF;
+                            continue;
+                        }
+                        backoff = MIN_BACKOFF;
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            List<long[]> perClient = new ArrayList<>(clients);
+            int total = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                perClient.add(latencies);
+                total += latencies.length;
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (long[] latencies : perClient) {
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            Arrays.sort(all);
+            return new Result(all, errors.get());
+        }
+    }
+
+    /**
+     * Wraps the application's DataSource so that every statement waits for the given latency while holding its
+     * connection; the target is still reached through the lazy proxy, so connections are only taken for statements.
+     */
+    private static void delayStatements(ConfigurableApplicationContext context, Duration latency) {
+        if (latency.isZero()) {
+            return;
+        }
+        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof LazyConnectionDataSourceProxy dataSource) {
+                    return new LazyConnectionDataSourceProxy(
+                            new SimulatedLatencyDataSource(dataSource.getTargetDataSource(), latency));
+                }
+                return bean;
+            }
+        });
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
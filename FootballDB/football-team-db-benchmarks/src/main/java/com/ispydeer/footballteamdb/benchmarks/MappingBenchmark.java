@@ -0,0 +1,91 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.config.MapperConfig;
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.mappers.PlayerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-object cost of mapping a player with its club, comparing the MapStruct generated mapper
+ * with the reflective ModelMapper fallback. Run with {@code -prof gc} to compare allocations as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MappingBenchmark {
+
+    @Param({"generated", "modelmapper"})
+    private String strategy;
+
+    private PlayerMapper playerMapper;
+    private Player player;
+    private PlayerDto playerDto;
+
+    @Setup
+    public void setUp() {
+        MapperConfig mapperConfig = new MapperConfig();
+        playerMapper = strategy.equals("generated")
+                ? mapperConfig.generatedPlayerMapper()
+                : mapperConfig.modelMapperPlayerMapper(mapperConfig.modelMapper());
+
+        player = Player.builder()
+                .id(1L)
+                .firstName("Lionel")
+                .lastName("Messi")
+                .birthDate(LocalDate.of(1987, 6, 24))
+                .position(Position.MIDFIELDER)
+                .club(Club.builder()
+                        .id(1L)
+                        .name("FC Barcelona")
+                        .shortName("BAR")
+                        .foundingDate(LocalDate.of(1899, 11, 29))
+                        .totalTrophies(100)
+                        .build())
+                .build();
+
+        playerDto = PlayerDto.builder()
+                .id(1L)
+                .firstName("Lionel")
+                .lastName("Messi")
+                .birthDate(LocalDate.of(1987, 6, 24))
+                .position(Position.MIDFIELDER)
+                .club(ClubDto.builder()
+                        .id(1L)
+                        .name("FC Barcelona")
+                        .shortName("BAR")
+                        .foundingDate(LocalDate.of(1899, 11, 29))
+                        .totalTrophies(100)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public PlayerDto playerToDto() {
+        return playerMapper.toDto(player);
+    }
+
+    @Benchmark
+    public Player playerToEntity() {
+        return playerMapper.toEntity(playerDto);
+    }
+}
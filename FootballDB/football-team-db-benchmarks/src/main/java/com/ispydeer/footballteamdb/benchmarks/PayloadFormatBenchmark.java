@@ -0,0 +1,91 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ispydeer.footballteamdb.converters.ProtobufCodec;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding cost of a {@code GET /players} body in each supported format: JSON, Smile and CBOR through
+ * Jackson, configured like the controllers' mappers, and Protobuf through the {@link ProtobufCodec}.
+ * The payload size of every format is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<PlayerDto> playerDtos;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> null;
+        };
+        if (builder != null) {
+            ObjectMapper objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            writer = objectMapper.writerFor(new TypeReference<List<PlayerDto>>() {
+            });
+            reader = objectMapper.readerFor(new TypeReference<List<PlayerDto>>() {
+            });
+        }
+        playerDtos = BenchmarkData.playerDtos(size);
+        payload = encodePlayers();
+        System.out.printf("%n%s: %d bytes for %d players (%.1f bytes per player)%n", format, payload.length, size,
+                (double) payload.length / size);
+    }
+
+    @Benchmark
+    public byte[] encodePlayers() throws IOException {
+        if (writer != null) {
+            return writer.writeValueAsBytes(playerDtos);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ProtobufCodec.writePlayers(playerDtos, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public List<PlayerDto> decodePlayers() throws IOException {
+        if (reader != null) {
+            return reader.readValue(payload);
+        }
+        return ProtobufCodec.readPlayers(new ByteArrayInputStream(payload));
+    }
+}
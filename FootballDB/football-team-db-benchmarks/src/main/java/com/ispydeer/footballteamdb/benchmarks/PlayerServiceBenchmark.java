@@ -0,0 +1,78 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end service calls against an embedded H2 database: listing all players
+ * and the read-merge-write cycle of {@code partialUpdatePlayer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerServiceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private List<Long> playerIds;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start();
+        playerService = context.getBean(PlayerService.class);
+
+        List<Player> players = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            players.add(BenchmarkData.player(i));
+        }
+        playerIds = new ArrayList<>(size);
+        for (Player player : context.getBean(PlayerRepository.class).saveAll(players)) {
+            playerIds.add(player.getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PlayerDto> retrieveAllPlayers() {
+        return playerService.retrieveAllPlayers();
+    }
+
+    @Benchmark
+    public PlayerDto partialUpdatePlayer() {
+        long id = playerIds.get(ThreadLocalRandom.current().nextInt(playerIds.size()));
+        PlayerDto update = PlayerDto.builder()
+                .firstName("Updated" + id)
+                .build();
+        return playerService.partialUpdatePlayer(update, id).orElseThrow();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application startup against a database that already holds the football schema next to many unrelated tables,
+ * with Hibernate updating the schema ({@code update}, the former configuration) against the Flyway migrations with
+ * Hibernate validating the schema ({@code validate}, the current configuration) or not checking it at all ({@code none}).
+ * Every start after the first finds the schema up to date, as a redeployment does.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SchemaStartupBenchmark {
+
+    @Param({"update", "validate", "none"})
+    private String ddlAuto;
+
+    @Param({"2000"})
+    private int otherTables;
+
+    private String url;
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void setUp() throws SQLException {
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (int i = 0; i < otherTables; i++) {
+                statement.addBatch("CREATE TABLE other_" + i + " (id BIGINT PRIMARY KEY, name VARCHAR(255), "
+                        + "parent_id BIGINT REFERENCES other_" + i + " (id))");
+                statement.addBatch("CREATE INDEX idx_other_" + i + "_name ON other_" + i + " (name)");
+            }
+            statement.executeBatch();
+        }
+        // the first start creates the football schema
+        start().close();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeContext() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext startup() {
+        context = start();
+        return context;
+    }
+
+    private ConfigurableApplicationContext start() {
+        boolean migrations = !ddlAuto.equals("update");
+        return EmbeddedApplication.start(
+                "spring.datasource.url=" + url,
+                "spring.flyway.enabled=" + migrations,
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.search.NameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete latency of the player name index, filled with generated names drawn from a realistic-sized
+ * vocabulary (a few hundred first names, tens of thousands of last names) so posting lists are shared like real data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "al", "an", "ar", "ba", "be", "bo", "ca", "ce", "da", "de", "di", "el", "en", "fa", "fe", "go",
+            "ha", "il", "is", "ja", "jo", "ka", "la", "le", "li", "lo", "ma", "me", "mi", "na", "ne", "no",
+            "ra", "re", "ri", "ro", "sa", "se", "si", "ta", "te", "to", "va", "ve", "vi", "za"
+    };
+    private static final int LIMIT = 10;
+
+    @Param({"1000000"})
+    private int players;
+
+    private NameIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new NameIndex();
+        for (int i = 0; i < players; i++) {
+            String firstName = capitalize(syllables(i % 500, 2));
+            String lastName = capitalize(syllables(i / 500 * 7919 % 50000, 3));
+            index.put(i + 1, firstName + " " + lastName, firstName, lastName);
+        }
+    }
+
+    @Benchmark
+    public List<NameIndex.Match> shortPrefix() {
+        return index.search("ma", LIMIT);
+    }
+
+    @Benchmark
+    public List<NameIndex.Match> firstAndLastNamePrefix() {
+        return index.search("Maba Siro", LIMIT);
+    }
+
+    @Benchmark
+    public List<NameIndex.Match> misspelledLastName() {
+        return index.search("Sirojaa", LIMIT);
+    }
+
+    @Benchmark
+    public List<NameIndex.Match> noMatch() {
+        return index.search("xyzzy", LIMIT);
+    }
+
+    private static String syllables(int number, int count) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            name.append(SYLLABLES[number % SYLLABLES.length]);
+            number /= SYLLABLES.length;
+        }
+        return name.toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * DataSource that makes every statement wait before it is prepared, while its thread holds the connection, as if it
+ * were a round trip to a database server. The embedded H2 database answers from memory without blocking, which would
+ * hide the difference between threading models that only shows while threads are blocked on database I/O.
+ */
+final class SimulatedLatencyDataSource extends DelegatingDataSource {
+
+    private final Duration latency;
+
+    SimulatedLatencyDataSource(DataSource targetDataSource, Duration latency) {
+        super(targetDataSource);
+        this.latency = latency;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return delayingStatements(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return delayingStatements(super.getConnection(username, password));
+    }
+
+    private Connection delayingStatements(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "createStatement", "prepareStatement", "prepareCall" -> Thread.sleep(latency);
+                        default -> {
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
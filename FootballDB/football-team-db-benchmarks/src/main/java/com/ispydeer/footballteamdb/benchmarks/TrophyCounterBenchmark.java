@@ -0,0 +1,70 @@
+package com.ispydeer.footballteamdb.benchmarks;
+
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.services.ClubService;
+import com.ispydeer.footballteamdb.services.PreconditionFailedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Increment throughput of a single club's trophies from concurrent threads, as a match feed produces them:
+ * the in-database {@code addTotalTrophies} against reading the club and writing it back with
+ * {@code If-Match}, retrying whenever another thread got there first.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrophyCounterBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ClubService clubService;
+    private long clubId;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start();
+        clubService = context.getBean(ClubService.class);
+        clubId = clubService.createClub(BenchmarkData.clubDto(0)).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean addTotalTrophies() {
+        return clubService.addTotalTrophies(clubId, 1);
+    }
+
+    @Benchmark
+    public ClubDto readModifyWrite() {
+        while (true) {
+            ClubDto club = clubService.retrieveClubById(clubId).orElseThrow();
+            ClubDto update = ClubDto.builder().totalTrophies(club.getTotalTrophies() + 1).build();
+            try {
+                return clubService.partialUpdateClub(update, clubId, EntityTags.of(club)).orElseThrow();
+            } catch (PreconditionFailedException e) {
+                // another thread incremented the club in between, read it again
+            }
+        }
+    }
+}
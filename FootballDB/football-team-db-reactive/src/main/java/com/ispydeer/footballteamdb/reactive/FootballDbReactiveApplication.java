@@ -0,0 +1,13 @@
+package com.ispydeer.footballteamdb.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class FootballDbReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(FootballDbReactiveApplication.class, args);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.ispydeer.footballteamdb.reactive.config;
+
+import com.ispydeer.footballteamdb.reactive.domain.ClubRecord;
+import com.ispydeer.footballteamdb.reactive.domain.PlayerRecord;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Assigns IDs to new rows from the sequences used by the JPA application, so both stacks can write to the
+ * same tables. The JPA generators hand out blocks of IDs starting at each sequence value (pooled-lo), so
+ * taking the sequence value itself as the ID never collides with them; it only leaves the rest of the block unused.
+ */
+@Configuration
+public class SequenceIdConfig {
+
+    @Bean
+    public BeforeConvertCallback<PlayerRecord> playerIdCallback(DatabaseClient databaseClient) {
+        return (player, table) -> player.id() != null ? Mono.just(player)
+                : nextValue(databaseClient, "player_seq").map(player::withId);
+    }
+
+    @Bean
+    public BeforeConvertCallback<ClubRecord> clubIdCallback(DatabaseClient databaseClient) {
+        return (club, table) -> club.id() != null ? Mono.just(club)
+                : nextValue(databaseClient, "club_seq").map(club::withId);
+    }
+
+    private static Mono<Long> nextValue(DatabaseClient databaseClient, String sequenceName) {
+        return databaseClient.sql("select nextval('" + sequenceName + "')")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ispydeer.footballteamdb.reactive.controllers;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.reactive.services.ReactiveClubService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller for managing football clubs, mirroring the endpoints of the servlet application.
+ */
+@RestController
+public class ReactiveClubController {
+
+    static final String DEFAULT_PAGE_SIZE = "50";
+    static final int MAX_PAGE_SIZE = 500;
+
+    private ReactiveClubService clubService;
+
+    public ReactiveClubController(ReactiveClubService clubService) {
+        this.clubService = clubService;
+    }
+
+    /**
+     * Creates a new football club.
+     *
+     * @param clubDto the data transfer object containing club details
+     * @return a Mono emitting a ResponseEntity containing the created ClubDto and HTTP status 201 (CREATED)
+     */
+    @PostMapping(path = "/clubs")
+    public Mono<ResponseEntity<ClubDto>> createClub(@RequestBody ClubDto clubDto) {
+        clubDto.setId(null);
+        return clubService.createClub(clubDto).map(club -> new ResponseEntity<>(club, HttpStatus.CREATED));
+    }
+
+    /**
+     * Retrieves a football club by its ID.
+     *
+     * @param id the ID of the club to retrieve
+     * @return a Mono emitting a ResponseEntity containing the ClubDto and HTTP status 200 (OK) if found, or HTTP status 404 (NOT FOUND) if not
+     */
+    @GetMapping(path = "/clubs/{id}")
+    public Mono<ResponseEntity<ClubDto>> retrieveClub(@PathVariable Long id) {
+        return clubService.retrieveClubById(id)
+                .map(club -> new ResponseEntity<>(club, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Streams a page of football clubs, ordered by ID, as a JSON array or as newline-delimited JSON.
+     *
+     * @param after the ID of the last club of the previous page, or absent to start from the beginning
+     * @param limit the maximum number of clubs to return
+     * @return a Flux of ClubDto objects
+     */
+    @GetMapping(path = "/clubs", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ClubDto> retrieveAllClubs(@RequestParam(required = false) Long after,
+                                          @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return clubService.retrieveClubsPage(after == null ? 0 : after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * Fully updates a football club by its ID.
+     *
+     * @param id      the ID of the club to update
+     * @param clubDto the data transfer object containing updated club details
+     * @return a Mono emitting a ResponseEntity containing the updated ClubDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the club does not exist
+     */
+    @PutMapping(path = "/clubs/{id}")
+    public Mono<ResponseEntity<ClubDto>> fullUpdateClub(@PathVariable Long id, @RequestBody ClubDto clubDto) {
+        return clubService.fullUpdateClub(clubDto, id)
+                .map(club -> new ResponseEntity<>(club, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Partially updates a football club by its ID.
+     *
+     * @param id      the ID of the club to update
+     * @param clubDto the data transfer object containing partial club updates
+     * @return a Mono emitting a ResponseEntity containing the updated ClubDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the club does not exist
+     */
+    @PatchMapping(path = "/clubs/{id}")
+    public Mono<ResponseEntity<ClubDto>> partialUpdateClub(@PathVariable Long id, @RequestBody ClubDto clubDto) {
+        return clubService.partialUpdateClub(clubDto, id)
+                .map(club -> new ResponseEntity<>(club, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Deletes a football club by its ID.
+     *
+     * @param id the ID of the club to delete
+     * @return a Mono emitting a ResponseEntity with HTTP status 204 (NO CONTENT) upon successful deletion
+     */
+    @DeleteMapping(path = "/clubs/{id}")
+    public Mono<ResponseEntity<Void>> deleteClub(@PathVariable Long id) {
+        return clubService.deleteClubById(id).thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+}
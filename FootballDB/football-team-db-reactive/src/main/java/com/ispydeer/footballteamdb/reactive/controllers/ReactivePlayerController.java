@@ -0,0 +1,124 @@
+package com.ispydeer.footballteamdb.reactive.controllers;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.reactive.services.ReactivePlayerService;
+import com.ispydeer.footballteamdb.services.UnknownClubException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller for managing football players, mirroring the endpoints of the servlet application.
+ * List endpoints stream players as they are read from the database and only read as fast as the client consumes them.
+ */
+@RestController
+public class ReactivePlayerController {
+
+    private ReactivePlayerService playerService;
+
+    public ReactivePlayerController(ReactivePlayerService playerService) {
+        this.playerService = playerService;
+    }
+
+    /**
+     * Creates a new football player.
+     *
+     * @param playerDto the data transfer object containing player details
+     * @return a Mono emitting a ResponseEntity containing the created PlayerDto and HTTP status 201 (CREATED)
+     */
+    @PostMapping(path = "/players")
+    public Mono<ResponseEntity<PlayerDto>> createPlayer(@RequestBody PlayerDto playerDto) {
+        playerDto.setId(null);
+        return playerService.createPlayer(playerDto).map(player -> new ResponseEntity<>(player, HttpStatus.CREATED));
+    }
+
+    /**
+     * Retrieves a football player by their ID.
+     *
+     * @param id the ID of the player to retrieve
+     * @return a Mono emitting a ResponseEntity containing the PlayerDto and HTTP status 200 if found, or HTTP status 404 (NOT FOUND) if not
+     */
+    @GetMapping(path = "/players/{id}")
+    public Mono<ResponseEntity<PlayerDto>> retrievePlayer(@PathVariable Long id) {
+        return playerService.retrievePlayerById(id)
+                .map(player -> new ResponseEntity<>(player, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Streams a page of football players, ordered by ID, as a JSON array or as newline-delimited JSON.
+     *
+     * @param after the ID of the last player of the previous page, or absent to start from the beginning
+     * @param limit the maximum number of players to return
+     * @return a Flux of PlayerDto objects
+     */
+    @GetMapping(path = "/players", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PlayerDto> retrieveAllPlayers(@RequestParam(required = false) Long after,
+                                              @RequestParam(defaultValue = ReactiveClubController.DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = Math.max(1, Math.min(limit, ReactiveClubController.MAX_PAGE_SIZE));
+        return playerService.retrievePlayersPage(after == null ? 0 : after, pageSize);
+    }
+
+    /**
+     * Streams all football players as newline-delimited JSON, one player per line.
+     *
+     * @return a Flux of all PlayerDto objects
+     */
+    @GetMapping(path = "/players/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PlayerDto> exportPlayers() {
+        return playerService.exportPlayers();
+    }
+
+    /**
+     * Fully updates a football player by their ID.
+     *
+     * @param id        the ID of the player to update
+     * @param playerDto the data transfer object containing updated player details
+     * @return a Mono emitting a ResponseEntity containing the updated PlayerDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the player does not exist
+     */
+    @PutMapping(path = "/players/{id}")
+    public Mono<ResponseEntity<PlayerDto>> fullUpdatePlayer(@PathVariable Long id, @RequestBody PlayerDto playerDto) {
+        return playerService.fullUpdatePlayer(playerDto, id)
+                .map(player -> new ResponseEntity<>(player, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Partially updates a football player by their ID.
+     *
+     * @param id        the ID of the player to update
+     * @param playerDto the data transfer object containing partial player updates
+     * @return a Mono emitting a ResponseEntity containing the updated PlayerDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the player does not exist
+     */
+    @PatchMapping(path = "/players/{id}")
+    public Mono<ResponseEntity<PlayerDto>> partialUpdatePlayer(@PathVariable Long id, @RequestBody PlayerDto playerDto) {
+        return playerService.partialUpdatePlayer(playerDto, id)
+                .map(player -> new ResponseEntity<>(player, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Deletes a football player by their ID.
+     *
+     * @param id the ID of the player to delete
+     * @return a Mono emitting a ResponseEntity with HTTP status 204 (NO CONTENT) upon successful deletion
+     */
+    @DeleteMapping(path = "/players/{id}")
+    public Mono<ResponseEntity<Void>> deletePlayer(@PathVariable Long id) {
+        return playerService.deletePlayerById(id).thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
+    /**
+     * Handles a player write whose club ID does not belong to any club, like the servlet application.
+     *
+     * @param e the exception
+     * @return a ResponseEntity with HTTP status 422 (UNPROCESSABLE ENTITY)
+     */
+    @ExceptionHandler(UnknownClubException.class)
+    public ResponseEntity<Void> handleUnknownClub(UnknownClubException e) {
+        return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
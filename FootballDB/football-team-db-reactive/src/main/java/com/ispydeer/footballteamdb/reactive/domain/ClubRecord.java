@@ -0,0 +1,24 @@
+package com.ispydeer.footballteamdb.reactive.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Row of the {@code club} table shared with the JPA application. The version column is the one the JPA
+ * application uses for optimistic locking, so both stacks detect each other's concurrent updates.
+ */
+@Table("club")
+public record ClubRecord(@Id Long id,
+                         String name,
+                         String shortName,
+                         LocalDate foundingDate,
+                         Integer totalTrophies,
+                         @Version Long version) {
+
+    public ClubRecord withId(Long id) {
+        return new ClubRecord(id, name, shortName, foundingDate, totalTrophies, version);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ispydeer.footballteamdb.reactive.domain;
+
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Row of the {@code player} table shared with the JPA application. R2DBC has no associations,
+ * so the club is referenced by its ID only. The version column is shared with the JPA application's optimistic locking.
+ */
+@Table("player")
+public record PlayerRecord(@Id Long id,
+                           String firstName,
+                           String lastName,
+                           LocalDate birthDate,
+                           Position position,
+                           Long clubId,
+                           @Version Long version) {
+
+    public PlayerRecord withId(Long id) {
+        return new PlayerRecord(id, firstName, lastName, birthDate, position, clubId, version);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ispydeer.footballteamdb.reactive.repositories;
+
+import com.ispydeer.footballteamdb.reactive.domain.ClubRecord;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveClubRepository extends R2dbcRepository<ClubRecord, Long> {
+
+    /**
+     * Streams a page of clubs whose ID is greater than the given cursor, ordered by ID.
+     *
+     * @param id    the ID of the last club of the previous page
+     * @param limit the maximum number of clubs to return
+     * @return a Flux of at most {@code limit} clubs
+     */
+    @Query("select * from club where id > :id order by id limit :limit")
+    Flux<ClubRecord> findByIdGreaterThan(long id, int limit);
+}
@@ -0,0 +1,46 @@
+package com.ispydeer.footballteamdb.reactive.repositories;
+
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import com.ispydeer.footballteamdb.reactive.domain.PlayerRecord;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactivePlayerRepository extends R2dbcRepository<PlayerRecord, Long> {
+
+    String PLAYER_VIEW_SELECT = "select p.id, p.first_name, p.last_name, p.birth_date, p.position, p.version, "
+            + "c.id as club_id, c.name as club_name, c.short_name as club_short_name, "
+            + "c.founding_date as club_founding_date, c.total_trophies as club_total_trophies, "
+            + "c.version as club_version "
+            + "from player p left join club c on c.id = p.club_id ";
+
+    /**
+     * Retrieves a read-only view of a player and its club by the player's ID.
+     *
+     * @param id the ID of the player
+     * @return a Mono emitting the player view, or empty if the player does not exist
+     */
+    @Query(PLAYER_VIEW_SELECT + "where p.id = :id")
+    Mono<PlayerView> findViewById(long id);
+
+    /**
+     * Streams a page of read-only player views whose ID is greater than the given cursor, ordered by ID.
+     *
+     * @param id    the ID of the last player of the previous page
+     * @param limit the maximum number of players to return
+     * @return a Flux of at most {@code limit} player views
+     */
+    @Query(PLAYER_VIEW_SELECT + "where p.id > :id order by p.id limit :limit")
+    Flux<PlayerView> findViewsByIdGreaterThan(long id, int limit);
+
+    /**
+     * Streams read-only views of all players ordered by ID. Rows are fetched as the subscriber requests them.
+     *
+     * @return a Flux of all player views
+     */
+    @Query(PLAYER_VIEW_SELECT + "order by p.id")
+    Flux<PlayerView> findAllViews();
+}
@@ -0,0 +1,122 @@
+package com.ispydeer.footballteamdb.reactive.services;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.reactive.domain.ClubRecord;
+import com.ispydeer.footballteamdb.reactive.repositories.ReactiveClubRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Non-blocking service class for handling football club operations.
+ */
+@Service
+public class ReactiveClubService {
+
+    private ReactiveClubRepository clubRepository;
+
+    public ReactiveClubService(ReactiveClubRepository clubRepository) {
+        this.clubRepository = clubRepository;
+    }
+
+    /**
+     * Creates a new club.
+     *
+     * @param clubDto the data transfer object containing club details
+     * @return a Mono emitting the created ClubDto
+     */
+    public Mono<ClubDto> createClub(ClubDto clubDto) {
+        return clubRepository.save(toRecord(clubDto)).map(ReactiveClubService::toDto);
+    }
+
+    /**
+     * Retrieves a club by its ID.
+     *
+     * @param clubId the ID of the club to retrieve
+     * @return a Mono emitting the ClubDto, or empty if the club does not exist
+     */
+    public Mono<ClubDto> retrieveClubById(long clubId) {
+        return clubRepository.findById(clubId).map(ReactiveClubService::toDto);
+    }
+
+    /**
+     * Streams a page of clubs following the given cursor, ordered by ID.
+     *
+     * @param afterId the ID of the last club of the previous page, or 0 to start from the beginning
+     * @param limit   the maximum number of clubs to return
+     * @return a Flux of at most {@code limit} ClubDto objects
+     */
+    public Flux<ClubDto> retrieveClubsPage(long afterId, int limit) {
+        return clubRepository.findByIdGreaterThan(afterId, limit).map(ReactiveClubService::toDto);
+    }
+
+    /**
+     * Fully updates a club by its ID. The club is read and written back with its version in one transaction,
+     * so a concurrent update makes the write fail instead of being overwritten.
+     *
+     * @param clubDto the data transfer object containing updated club details
+     * @param clubId  the ID of the club to update
+     * @return a Mono emitting the updated ClubDto, or empty if the club does not exist
+     */
+    @Transactional
+    public Mono<ClubDto> fullUpdateClub(ClubDto clubDto, long clubId) {
+        return clubRepository.findById(clubId)
+                .map(existingClub -> new ClubRecord(existingClub.id(), clubDto.getName(), clubDto.getShortName(),
+                        clubDto.getFoundingDate(), clubDto.getTotalTrophies(), existingClub.version()))
+                .flatMap(clubRepository::save)
+                .map(ReactiveClubService::toDto);
+    }
+
+    /**
+     * Partially updates a club's information by its ID.
+     *
+     * @param clubDto the data transfer object containing partial updates for the club
+     * @param clubId  the ID of the club to update
+     * @return a Mono emitting the updated ClubDto, or empty if the club does not exist
+     */
+    @Transactional
+    public Mono<ClubDto> partialUpdateClub(ClubDto clubDto, long clubId) {
+        return clubRepository.findById(clubId)
+                .map(existingClub -> applyPartialUpdate(existingClub, clubDto))
+                .flatMap(clubRepository::save)
+                .map(ReactiveClubService::toDto);
+    }
+
+    /**
+     * Deletes a club by its ID.
+     *
+     * @param clubId the ID of the club to delete
+     * @return a Mono completing when the club has been deleted
+     */
+    public Mono<Void> deleteClubById(long clubId) {
+        return clubRepository.deleteById(clubId);
+    }
+
+    /**
+     * Converts a ClubDto to the record of a new club.
+     */
+    static ClubRecord toRecord(ClubDto clubDto) {
+        return new ClubRecord(null, clubDto.getName(), clubDto.getShortName(),
+                clubDto.getFoundingDate(), clubDto.getTotalTrophies(), null);
+    }
+
+    /**
+     * Returns the existing club with the non-null fields of the ClubDto applied, or the club itself if nothing changes.
+     */
+    static ClubRecord applyPartialUpdate(ClubRecord existingClub, ClubDto clubDto) {
+        return new ClubRecord(existingClub.id(),
+                Optional.ofNullable(clubDto.getName()).orElse(existingClub.name()),
+                Optional.ofNullable(clubDto.getShortName()).orElse(existingClub.shortName()),
+                Optional.ofNullable(clubDto.getFoundingDate()).orElse(existingClub.foundingDate()),
+                Optional.ofNullable(clubDto.getTotalTrophies()).orElse(existingClub.totalTrophies()),
+                existingClub.version());
+    }
+
+    static ClubDto toDto(ClubRecord club) {
+        return new ClubDto(club.id(), club.name(), club.shortName(), club.foundingDate(), club.totalTrophies(),
+                club.version());
+    }
+}
@@ -0,0 +1,156 @@
+package com.ispydeer.footballteamdb.reactive.services;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import com.ispydeer.footballteamdb.reactive.domain.PlayerRecord;
+import com.ispydeer.footballteamdb.reactive.repositories.ReactiveClubRepository;
+import com.ispydeer.footballteamdb.reactive.repositories.ReactivePlayerRepository;
+import com.ispydeer.footballteamdb.services.UnknownClubException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Non-blocking service class for handling football player operations. As in the default {@code reference} mode of the
+ * JPA application, a new club sent along with a player is saved together with it, while an existing club is only
+ * assigned by its ID: the other fields sent for it are ignored and the club row is never written.
+ */
+@Service
+public class ReactivePlayerService {
+
+    private ReactivePlayerRepository playerRepository;
+    private ReactiveClubRepository clubRepository;
+
+    public ReactivePlayerService(ReactivePlayerRepository playerRepository, ReactiveClubRepository clubRepository) {
+        this.playerRepository = playerRepository;
+        this.clubRepository = clubRepository;
+    }
+
+    /**
+     * Creates a new player.
+     *
+     * @param playerDto the data transfer object containing player details
+     * @return a Mono emitting the created PlayerDto
+     */
+    @Transactional
+    public Mono<PlayerDto> createPlayer(PlayerDto playerDto) {
+        return resolveClub(playerDto.getClub())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(club -> playerRepository.save(new PlayerRecord(null, playerDto.getFirstName(),
+                                playerDto.getLastName(), playerDto.getBirthDate(), playerDto.getPosition(),
+                                club.map(ClubDto::getId).orElse(null), null))
+                        .map(player -> toDto(player, club.orElse(null))));
+    }
+
+    /**
+     * Retrieves a player by their ID.
+     *
+     * @param playerId the ID of the player to retrieve
+     * @return a Mono emitting the PlayerDto, or empty if the player does not exist
+     */
+    public Mono<PlayerDto> retrievePlayerById(long playerId) {
+        return playerRepository.findViewById(playerId).map(PlayerView::toDto);
+    }
+
+    /**
+     * Streams a page of players following the given cursor, ordered by ID.
+     *
+     * @param afterId the ID of the last player of the previous page, or 0 to start from the beginning
+     * @param limit   the maximum number of players to return
+     * @return a Flux of at most {@code limit} PlayerDto objects
+     */
+    public Flux<PlayerDto> retrievePlayersPage(long afterId, int limit) {
+        return playerRepository.findViewsByIdGreaterThan(afterId, limit).map(PlayerView::toDto);
+    }
+
+    /**
+     * Streams all players ordered by ID, reading them from the database as fast as the subscriber consumes them.
+     *
+     * @return a Flux of all PlayerDto objects
+     */
+    public Flux<PlayerDto> exportPlayers() {
+        return playerRepository.findAllViews().map(PlayerView::toDto);
+    }
+
+    /**
+     * Fully updates a player by their ID. The player is read and written back with their version in one transaction,
+     * so a concurrent update makes the write fail instead of being overwritten.
+     *
+     * @param playerDto the data transfer object containing updated player details
+     * @param playerId  the ID of the player to update
+     * @return a Mono emitting the updated PlayerDto, or empty if the player does not exist
+     */
+    @Transactional
+    public Mono<PlayerDto> fullUpdatePlayer(PlayerDto playerDto, long playerId) {
+        return playerRepository.findById(playerId)
+                .flatMap(existingPlayer -> resolveClub(playerDto.getClub())
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(club -> playerRepository.save(new PlayerRecord(existingPlayer.id(),
+                                        playerDto.getFirstName(), playerDto.getLastName(), playerDto.getBirthDate(),
+                                        playerDto.getPosition(), club.map(ClubDto::getId).orElse(null),
+                                        existingPlayer.version()))
+                                .map(player -> toDto(player, club.orElse(null)))));
+    }
+
+    /**
+     * Partially updates a player's information by their ID.
+     *
+     * @param playerDto the data transfer object containing partial updates for the player
+     * @param playerId  the ID of the player to update
+     * @return a Mono emitting the updated PlayerDto, or empty if the player does not exist
+     */
+    @Transactional
+    public Mono<PlayerDto> partialUpdatePlayer(PlayerDto playerDto, long playerId) {
+        return playerRepository.findById(playerId)
+                .flatMap(existingPlayer -> resolveClub(playerDto.getClub())
+                        .map(club -> Optional.of(club.getId()))
+                        .defaultIfEmpty(Optional.ofNullable(existingPlayer.clubId()))
+                        .flatMap(clubId -> playerRepository.save(new PlayerRecord(existingPlayer.id(),
+                                Optional.ofNullable(playerDto.getFirstName()).orElse(existingPlayer.firstName()),
+                                Optional.ofNullable(playerDto.getLastName()).orElse(existingPlayer.lastName()),
+                                Optional.ofNullable(playerDto.getBirthDate()).orElse(existingPlayer.birthDate()),
+                                Optional.ofNullable(playerDto.getPosition()).orElse(existingPlayer.position()),
+                                clubId.orElse(null), existingPlayer.version()))))
+                .flatMap(player -> playerRepository.findViewById(player.id()))
+                .map(PlayerView::toDto);
+    }
+
+    /**
+     * Deletes a player by their ID.
+     *
+     * @param playerId the ID of the player to delete
+     * @return a Mono completing when the player has been deleted
+     */
+    public Mono<Void> deletePlayerById(long playerId) {
+        return playerRepository.deleteById(playerId);
+    }
+
+    /**
+     * Returns the club to assign to a player: a club without an ID is created, while a club with an ID is the existing
+     * club as stored, read so that it can be returned with the player.
+     *
+     * @throws UnknownClubException if the club has an ID but does not exist
+     */
+    private Mono<ClubDto> resolveClub(ClubDto clubDto) {
+        if (clubDto == null) {
+            return Mono.empty();
+        }
+        if (clubDto.getId() == null) {
+            return clubRepository.save(ReactiveClubService.toRecord(clubDto)).map(ReactiveClubService::toDto);
+        }
+        return clubRepository.findById(clubDto.getId())
+                .switchIfEmpty(Mono.error(() -> new UnknownClubException(clubDto.getId())))
+                .map(ReactiveClubService::toDto);
+    }
+
+    private static PlayerDto toDto(PlayerRecord player, ClubDto club) {
+        return new PlayerDto(player.id(), player.firstName(), player.lastName(), player.birthDate(),
+                player.position(), club, player.version());
+    }
+}
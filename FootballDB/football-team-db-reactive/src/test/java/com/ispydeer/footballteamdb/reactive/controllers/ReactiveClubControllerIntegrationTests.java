@@ -0,0 +1,93 @@
+package com.ispydeer.footballteamdb.reactive.controllers;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.reactive.services.ReactiveClubService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureWebTestClient
+public class ReactiveClubControllerIntegrationTests {
+
+    @Autowired
+    private ReactiveClubService clubService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void testThatCreateClubReturnsHttpStatus201AndSavedClub() {
+        webTestClient.post().uri("/clubs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createClubDtoBarca())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNumber()
+                .jsonPath("$.name").isEqualTo("FC Barcelona")
+                .jsonPath("$.foundingDate").isEqualTo("1899-11-29");
+    }
+
+    @Test
+    public void testThatGetClubReturnsHttpStatus404WhenClubDoesntExist() {
+        webTestClient.get().uri("/clubs/99")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatListClubsReturnsClubsAfterCursor() {
+        ClubDto first = clubService.createClub(createClubDtoBarca()).block();
+        clubService.createClub(createClubDtoBarca()).block();
+
+        webTestClient.get().uri("/clubs?after=" + first.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ClubDto.class)
+                .hasSize(1);
+    }
+
+    @Test
+    public void testThatFullUpdateClubReturnsHttpStatus200AndUpdatedClub() {
+        ClubDto saved = clubService.createClub(createClubDtoBarca()).block();
+        saved.setTotalTrophies(101);
+
+        webTestClient.put().uri("/clubs/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(saved)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalTrophies").isEqualTo(101);
+    }
+
+    @Test
+    public void testThatPartialUpdateClubReturnsHttpStatus404WhenClubDoesntExist() {
+        webTestClient.patch().uri("/clubs/99")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createClubDtoBarca())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static ClubDto createClubDtoBarca() {
+        return ClubDto.builder()
+                .name("FC Barcelona")
+                .shortName("FCB")
+                .foundingDate(LocalDate.of(1899, 11, 29))
+                .totalTrophies(100)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.ispydeer.footballteamdb.reactive.controllers;
+
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.reactive.services.ReactivePlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureWebTestClient
+public class ReactivePlayerControllerIntegrationTests {
+
+    @Autowired
+    private ReactivePlayerService playerService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void testThatCreatePlayerReturnsHttpStatus201AndSavedPlayerWithClub() {
+        webTestClient.post().uri("/players")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createPlayerDtoLM())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNumber()
+                .jsonPath("$.firstName").isEqualTo("Lionel")
+                .jsonPath("$.club.id").isNumber()
+                .jsonPath("$.club.name").isEqualTo("FC Barcelona");
+    }
+
+    @Test
+    public void testThatGetPlayerReturnsHttpStatus200AndFoundPlayer() {
+        PlayerDto saved = playerService.createPlayer(createPlayerDtoLM()).block();
+
+        webTestClient.get().uri("/players/" + saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.lastName").isEqualTo("Messi")
+                .jsonPath("$.position").isEqualTo(Position.MIDFIELDER.name())
+                .jsonPath("$.club.shortName").isEqualTo("FCB");
+    }
+
+    @Test
+    public void testThatGetPlayerReturnsHttpStatus404WhenPlayerDoesntExist() {
+        webTestClient.get().uri("/players/99")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatListPlayersStreamsPageAsNewlineDelimitedJson() {
+        for (int i = 0; i < 3; i++) {
+            playerService.createPlayer(createPlayerDtoLM()).block();
+        }
+
+        Flux<PlayerDto> result = webTestClient.get().uri("/players?limit=2")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PlayerDto.class)
+                .getResponseBody();
+
+        StepVerifier.create(result)
+                .expectNextMatches(player -> player.getFirstName().equals("Lionel"))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testThatPartialUpdatePlayerUpdatesOnlyGivenFields() {
+        PlayerDto saved = playerService.createPlayer(createPlayerDtoLM()).block();
+
+        webTestClient.patch().uri("/players/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(PlayerDto.builder().firstName("Leo").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Leo")
+                .jsonPath("$.lastName").isEqualTo("Messi")
+                .jsonPath("$.club.id").isEqualTo(saved.getClub().getId());
+    }
+
+    @Test
+    public void testThatPartialUpdatePlayerAssignsExistingClubByIdOnly() {
+        PlayerDto saved = playerService.createPlayer(createPlayerDtoLM()).block();
+
+        webTestClient.patch().uri("/players/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(PlayerDto.builder().club(ClubDto.builder().id(saved.getClub().getId()).name("Renamed").build()).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.club.name").isEqualTo("FC Barcelona");
+        webTestClient.get().uri("/clubs/" + saved.getClub().getId())
+                .exchange()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("FC Barcelona");
+    }
+
+    @Test
+    public void testThatCreatePlayerOfNotExistingClubReturnsHttpStatus422() {
+        PlayerDto playerDtoLM = createPlayerDtoLM();
+        playerDtoLM.getClub().setId(999L);
+
+        webTestClient.post().uri("/players")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(playerDtoLM)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void testThatFullUpdatePlayerReturnsHttpStatus404WhenPlayerDoesntExist() {
+        webTestClient.put().uri("/players/99")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createPlayerDtoLM())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatDeletePlayerReturnsHttpStatus204() {
+        PlayerDto saved = playerService.createPlayer(createPlayerDtoLM()).block();
+
+        webTestClient.delete().uri("/players/" + saved.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.get().uri("/players/" + saved.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static PlayerDto createPlayerDtoLM() {
+        return PlayerDto.builder()
+                .firstName("Lionel")
+                .lastName("Messi")
+                .birthDate(LocalDate.of(1987, 6, 24))
+                .position(Position.MIDFIELDER)
+                .club(ClubDto.builder()
+                        .name("FC Barcelona")
+                        .shortName("FCB")
+                        .foundingDate(LocalDate.of(1899, 11, 29))
+                        .totalTrophies(100)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+-- Mirrors the tables and sequences created by the migrations of the servlet application (db/migration)
+create sequence if not exists club_seq start with 1 increment by 50;
+create sequence if not exists player_seq start with 1 increment by 50;
+
+create table if not exists club (
+    id             bigint primary key,
+    name           varchar(255),
+    short_name     varchar(255),
+    founding_date  date,
+    total_trophies integer,
+    version        bigint
+);
+
+create table if not exists player (
+    id         bigint primary key,
+    first_name varchar(255),
+    last_name  varchar(255),
+    birth_date date,
+    position   varchar(255),
+    club_id    bigint references club (id),
+    version    bigint
+);
@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Compares the startup time and resident memory of the application in its launch modes:
+#   jar     - the executable jar (mvn package)
+#   aot     - the AOT-processed application on a flat class path (mvn -Pfast-startup package)
+#   aot-cds - the same with the Class Data Sharing archive created by the fast-startup build
+#   native  - the GraalVM native executable (mvn -Pnative native:compile)
+# Modes whose artifacts have not been built are skipped. Every mode is started RUNS times (default 5); the startup
+# time is the "process running for" value Spring Boot logs once the application is ready, the RSS is read right after.
+#
+# Usage, from the football-team-db directory:
+#   scripts/startup-comparison.sh [runs] [application arguments...]
+# The application starts against the configured PostgreSQL database (docker compose up), or pass e.g.
+#   --spring.datasource.url=jdbc:h2:mem:startup --spring.datasource.driver-class-name=org.h2.Driver --spring.datasource.username=sa
+set -euo pipefail
+
+RUNS=${1:-5}
+shift $(( $# > 0 ? 1 : 0 ))
+APP_ARGS=("--server.port=0" "$@")
+TARGET=target
+NAME=football-team-db-0.0.1-SNAPSHOT
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+# starts a command, waits until the application has started and prints "<seconds> <rss in MB>"
+measure() {
+    "$@" "${APP_ARGS[@]}" > "$LOG" 2>&1 &
+    local pid=$!
+    for _ in $(seq 1 600); do
+        if grep -q "Started FootballDbApplication" "$LOG"; then
+            local seconds rss
+            seconds=$(grep -o "process running for [0-9.]*" "$LOG" | grep -o "[0-9.]*$")
+            rss=$(ps -o rss= -p "$pid")
+            kill "$pid"
+            wait "$pid" 2>/dev/null || true
+            echo "$seconds $((rss / 1024))"
+            return
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited before starting, see its output:" >&2
+            cat "$LOG" >&2
+            exit 1
+        fi
+        sleep 0.1
+    done
+    kill "$pid"
+    echo "application did not start within 60 seconds" >&2
+    exit 1
+}
+
+# runs a mode RUNS times and prints the average startup time and RSS
+compare() {
+    local mode=$1
+    shift
+    local results=""
+    for _ in $(seq 1 "$RUNS"); do
+        results+="$(measure "$@")"$'\n'
+    done
+    printf "%s" "$results" | awk -v mode="$mode" \
+        '{ seconds += $1; rss += $2 } END { printf "%-8s %10.3f %10d\n", mode, seconds / NR, rss / NR }'
+}
+
+printf "%-8s %10s %10s\n" "mode" "startup s" "RSS MB"
+if [ -f "$TARGET/$NAME-exec.jar" ]; then
+    compare jar java -jar "$TARGET/$NAME-exec.jar"
+fi
+if [ -d "$TARGET/lib" ] && [ -d "$TARGET/spring-aot" ]; then
+    compare aot java -Dspring.aot.enabled=true -jar "$TARGET/$NAME.jar"
+    if [ -f "$TARGET/application.jsa" ]; then
+        compare aot-cds java -XX:SharedArchiveFile="$TARGET/application.jsa" -Dspring.aot.enabled=true -jar "$TARGET/$NAME.jar"
+    fi
+fi
+if [ -x "$TARGET/football-team-db" ]; then
+    compare native "$TARGET/football-team-db"
+fi
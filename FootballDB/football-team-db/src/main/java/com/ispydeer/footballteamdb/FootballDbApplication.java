@@ -1,9 +1,12 @@
 package com.ispydeer.footballteamdb;
 
+import com.ispydeer.footballteamdb.config.FootballDbRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(FootballDbRuntimeHints.class)
 public class FootballDbApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,33 @@
+package com.ispydeer.footballteamdb.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * A serialized JSON response body together with its entity tag.
+ *
+ * @param body   the serialized JSON body
+ * @param etag   the entity tag, derived from the version of the resource by {@link EntityTags}
+ * @param clubId the ID of the club the body embeds or is, or null if it has none
+ */
+public record CachedResponse(byte[] body, String etag, Long clubId) {
+
+    /**
+     * Builds a 200 (OK) response with the body and its {@code ETag} header. Spring MVC answers requests whose
+     * {@code If-None-Match} header matches the tag with 304 (NOT MODIFIED) and no body instead. The response
+     * varies by {@code Accept}, since the same URL also serves binary representations.
+     *
+     * @return the response entity
+     */
+    public ResponseEntity<byte[]> toResponseEntity() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setETag(etag);
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ispydeer.footballteamdb.cache;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import org.springframework.http.MediaType;
+
+/**
+ * Entity tags derived from the {@code @Version} columns. A club's tag is its version; a player's tag combines
+ * the player's version with the version of its club, since the player's representation embeds the club.
+ * <p>
+ * The same tags are sent on reads and compared against {@code If-Match} on writes, so a client that sends back
+ * the tag it read can only modify the resource if nobody else did in between. Binary representations append their
+ * format to the tag, as a strong tag must differ between representations; {@code If-Match} only compares the versions.
+ */
+public final class EntityTags {
+
+    private static final char FORMAT_SEPARATOR = '-';
+
+    private EntityTags() {
+    }
+
+    /**
+     * Returns the entity tag of a club.
+     *
+     * @param club the club
+     * @return the quoted entity tag
+     */
+    public static String of(ClubDto club) {
+        return tag(club.getVersion(), null);
+    }
+
+    /**
+     * Returns the entity tag of a player.
+     *
+     * @param player the player
+     * @return the quoted entity tag
+     */
+    public static String of(PlayerDto player) {
+        return tag(player.getVersion(), player.getClub() == null ? null : player.getClub().getVersion());
+    }
+
+    /**
+     * Returns the entity tag of a club entity.
+     *
+     * @param club the club
+     * @return the quoted entity tag
+     */
+    public static String of(Club club) {
+        return tag(club.getVersion(), null);
+    }
+
+    /**
+     * Returns the entity tag of a player entity.
+     *
+     * @param player the player
+     * @return the quoted entity tag
+     */
+    public static String of(Player player) {
+        return tag(player.getVersion(), player.getClub() == null ? null : player.getClub().getVersion());
+    }
+
+    /**
+     * Returns the entity tag of a resource's representation in a binary format.
+     *
+     * @param tag       the quoted entity tag of the resource
+     * @param mediaType the media type of the representation
+     * @return the quoted entity tag with the media subtype appended to the versions
+     */
+    public static String forFormat(String tag, MediaType mediaType) {
+        return tag.substring(0, tag.length() - 1) + FORMAT_SEPARATOR + mediaType.getSubtype() + "\"";
+    }
+
+    /**
+     * Evaluates an {@code If-Match} header against the current entity tag, using the strong comparison
+     * required for {@code If-Match}: weak tags never match.
+     *
+     * @param ifMatch    the value of the {@code If-Match} header, or null if the request carries none
+     * @param currentTag the current entity tag of the resource
+     * @return true if there is no header, the header is {@code *}, or one of the listed tags has the versions of the
+     * current tag, in any format
+     */
+    public static boolean matches(String ifMatch, String currentTag) {
+        if (ifMatch == null) {
+            return true;
+        }
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || versions(trimmed).equals(versions(currentTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String versions(String tag) {
+        int separator = tag.indexOf(FORMAT_SEPARATOR);
+        return separator < 0 ? tag : tag.substring(0, separator) + "\"";
+    }
+
+    private static String tag(Long version, Long clubVersion) {
+        return clubVersion == null ? "\"" + version + "\"" : "\"" + version + "." + clubVersion + "\"";
+    }
+}
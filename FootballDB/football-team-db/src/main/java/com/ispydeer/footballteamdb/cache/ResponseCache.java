@@ -0,0 +1,137 @@
+package com.ispydeer.footballteamdb.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * In-process cache of serialized single-resource responses, keyed by ID. Repeated requests for the same player
+ * or club are answered from the cached bytes without touching the database or serializing the DTO again.
+ * <p>
+ * Entries must be invalidated whenever the underlying resource changes. A player's response embeds its club,
+ * so a change to a club also invalidates the cached players of that club. Entries also expire after a fixed time, which bounds
+ * how long a change made outside the controllers can be served stale.
+ * <p>
+ * Entries are loaded in a read-write transaction, so the read-only service lookups join it and read from the primary
+ * even with read replicas configured. A lagging replica could still return the state from before the write that
+ * invalidated the entry, which would then be served with its outdated {@code ETag} until the entry expires.
+ */
+@Component
+public class ResponseCache {
+
+    private ObjectMapper objectMapper;
+    private TransactionTemplate transactionTemplate;
+    private Cache<Long, CachedResponse> players;
+    private Cache<Long, CachedResponse> clubs;
+
+    public ResponseCache(ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                         @Value("${footballdb.response-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${footballdb.response-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.players = buildCache(maximumSize, expireAfterWriteSeconds);
+        this.clubs = buildCache(maximumSize, expireAfterWriteSeconds);
+    }
+
+    /**
+     * Retrieves the cached response of a player, loading and caching it on a miss.
+     *
+     * @param playerId the ID of the player
+     * @param loader   loads the player's DTO when it is not cached
+     * @return an Optional containing the cached response if the player exists, or empty if not
+     */
+    public Optional<CachedResponse> player(long playerId, LongFunction<Optional<PlayerDto>> loader) {
+        return get(players, playerId, loader, EntityTags::of,
+                playerDto -> playerDto.getClub() == null ? null : playerDto.getClub().getId());
+    }
+
+    /**
+     * Retrieves the cached response of a club, loading and caching it on a miss.
+     *
+     * @param clubId the ID of the club
+     * @param loader loads the club's DTO when it is not cached
+     * @return an Optional containing the cached response if the club exists, or empty if not
+     */
+    public Optional<CachedResponse> club(long clubId, LongFunction<Optional<ClubDto>> loader) {
+        return get(clubs, clubId, loader, EntityTags::of, ClubDto::getId);
+    }
+
+    /**
+     * Invalidates the cached response of a player.
+     *
+     * @param playerId the ID of the player
+     */
+    public void invalidatePlayer(long playerId) {
+        players.invalidate(playerId);
+    }
+
+    /**
+     * Invalidates the cached responses of all players.
+     */
+    public void invalidateAllPlayers() {
+        players.invalidateAll();
+    }
+
+    /**
+     * Invalidates the cached responses of all players of a club.
+     *
+     * @param clubId the ID of the club
+     */
+    public void invalidatePlayersOfClub(long clubId) {
+        players.asMap().values().removeIf(response -> Objects.equals(response.clubId(), clubId));
+    }
+
+    /**
+     * Invalidates the cached response of a club, and of the club's players since they embed their club.
+     *
+     * @param clubId the ID of the club
+     */
+    public void invalidateClub(long clubId) {
+        clubs.invalidate(clubId);
+        invalidatePlayersOfClub(clubId);
+    }
+
+    /**
+     * Invalidates the cached responses of all clubs and players.
+     */
+    public void invalidateAll() {
+        clubs.invalidateAll();
+        players.invalidateAll();
+    }
+
+    private <T> Optional<CachedResponse> get(Cache<Long, CachedResponse> cache, long id,
+                                             LongFunction<Optional<T>> loader, Function<T, String> tagger,
+                                             Function<T, Long> clubIdGetter) {
+        return Optional.ofNullable(cache.get(id, key -> transactionTemplate.execute(status -> loader.apply(key))
+                .map(dto -> serialize(dto, tagger.apply(dto), clubIdGetter.apply(dto)))
+                .orElse(null)));
+    }
+
+    private CachedResponse serialize(Object dto, String etag, Long clubId) {
+        try {
+            return new CachedResponse(objectMapper.writeValueAsBytes(dto), etag, clubId);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Cache<Long, CachedResponse> buildCache(long maximumSize, long expireAfterWriteSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ispydeer.footballteamdb.config;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.domain.generators.PooledLoSequenceGenerator;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import com.ispydeer.footballteamdb.domain.projections.PositionCount;
+import com.ispydeer.footballteamdb.domain.projections.RosterPlayerView;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for a native image that Spring AOT cannot infer from the bean definitions.
+ * Entities, repositories, controllers and their return types are covered by Spring AOT itself.
+ */
+public class FootballDbRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // instantiated by Hibernate from the constructor expressions of JPQL queries
+        for (Class<?> type : List.of(PlayerView.class, RosterPlayerView.class, PositionCount.class, ClubDto.class)) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        // referenced from @GenericGenerator and instantiated by Hibernate
+        hints.reflection().registerType(PooledLoSequenceGenerator.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        // the ModelMapper fallback creates targets with the no-args constructor and copies the Lombok accessors
+        for (Class<?> type : List.of(Player.class, Club.class, PlayerDto.class, ClubDto.class)) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+        }
+        // serialized by the response cache and the export stream outside of controller return types
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), PlayerDto.class, ClubDto.class);
+        // Caffeine JCache configuration of the second-level cache regions
+        hints.resources().registerPattern("application.conf");
+    }
+}
@@ -1,10 +1,22 @@
 package com.ispydeer.footballteamdb.config;
 
+import com.ispydeer.footballteamdb.mappers.ClubMapper;
+import com.ispydeer.footballteamdb.mappers.GeneratedClubMapper;
+import com.ispydeer.footballteamdb.mappers.GeneratedPlayerMapper;
+import com.ispydeer.footballteamdb.mappers.ModelMapperClubMapper;
+import com.ispydeer.footballteamdb.mappers.ModelMapperPlayerMapper;
+import com.ispydeer.footballteamdb.mappers.PlayerMapper;
+import org.mapstruct.factory.Mappers;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Configures the entity to DTO mappers. The MapStruct generated mappers are used by default,
+ * setting {@code footballdb.mapping.strategy=modelmapper} switches back to the reflective ModelMapper.
+ */
 @Configuration
 public class MapperConfig {
 
@@ -14,4 +26,28 @@ public class MapperConfig {
         modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
         return modelMapper;
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "footballdb.mapping.strategy", havingValue = "generated", matchIfMissing = true)
+    public ClubMapper generatedClubMapper() {
+        return Mappers.getMapper(GeneratedClubMapper.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "footballdb.mapping.strategy", havingValue = "generated", matchIfMissing = true)
+    public PlayerMapper generatedPlayerMapper() {
+        return Mappers.getMapper(GeneratedPlayerMapper.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "footballdb.mapping.strategy", havingValue = "modelmapper")
+    public ClubMapper modelMapperClubMapper(ModelMapper modelMapper) {
+        return new ModelMapperClubMapper(modelMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "footballdb.mapping.strategy", havingValue = "modelmapper")
+    public PlayerMapper modelMapperPlayerMapper(ModelMapper modelMapper) {
+        return new ModelMapperPlayerMapper(modelMapper);
+    }
 }
@@ -0,0 +1,75 @@
+package com.ispydeer.footballteamdb.config;
+
+import com.ispydeer.footballteamdb.mappers.ClubMapper;
+import com.ispydeer.footballteamdb.mappers.PlayerMapper;
+import com.ispydeer.footballteamdb.mappers.TimedClubMapper;
+import com.ispydeer.footballteamdb.mappers.TimedPlayerMapper;
+import com.ispydeer.footballteamdb.metrics.StatementCountInterceptor;
+import com.ispydeer.footballteamdb.metrics.StatementCounter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Application metrics on top of the ones Spring Boot records itself ({@code http.server.requests} per endpoint,
+ * {@code spring.data.repository.invocations} per repository method, {@code hikaricp.*} pool gauges and
+ * Hibernate statistics):
+ * <ul>
+ *     <li>{@code footballdb.service}: time of every service method annotated with {@code @Timed}</li>
+ *     <li>{@code footballdb.mapping}: time spent in the entity to DTO mappers, tagged with the mapping strategy</li>
+ *     <li>{@code footballdb.hibernate.statements}: SQL statements run per HTTP request</li>
+ * </ul>
+ * All of them are exposed for scraping at {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementCountInterceptor(statementCounter, meterRegistry.getObject()));
+    }
+
+    @Bean
+    public static BeanPostProcessor timedMapperPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                             Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                String strategy = environment.getProperty("footballdb.mapping.strategy", "generated");
+                if (bean instanceof PlayerMapper playerMapper && !(bean instanceof TimedPlayerMapper)) {
+                    return new TimedPlayerMapper(playerMapper, meterRegistry.getObject(), strategy);
+                }
+                if (bean instanceof ClubMapper clubMapper && !(bean instanceof TimedClubMapper)) {
+                    return new TimedClubMapper(clubMapper, meterRegistry.getObject(), strategy);
+                }
+                return bean;
+            }
+        };
+    }
+}
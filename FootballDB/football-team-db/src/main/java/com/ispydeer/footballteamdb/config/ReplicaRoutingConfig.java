@@ -0,0 +1,71 @@
+package com.ispydeer.footballteamdb.config;
+
+import com.ispydeer.footballteamdb.jdbc.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, switched on by listing replica URLs in {@code footballdb.datasource.replicas.urls}.
+ * Read-only transactions, such as the {@code retrieve*} methods of the services, then run on the replicas and
+ * all other transactions on the primary configured with {@code spring.datasource.*}. Every replica gets its own
+ * connection pool with the {@code spring.datasource.hikari.*} settings of the primary.
+ * <p>
+ * Replicas are checked every {@code health-check-interval-ms}; with a {@code lag-query}, a replica more than
+ * {@code max-lag-ms} behind the primary is left out, and reads go to the primary while no replica is available.
+ */
+@Configuration
+@ConditionalOnProperty(name = "footballdb.datasource.replicas.urls")
+public class ReplicaRoutingConfig {
+
+    private static final String PREFIX = "footballdb.datasource.replicas.";
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource primary = pool(properties.initializeDataSourceBuilder(), environment);
+        List<DataSource> replicas = new ArrayList<>();
+        String[] urls = environment.getRequiredProperty(PREFIX + "urls", String[].class);
+        for (int i = 0; i < urls.length; i++) {
+            HikariDataSource replica = pool(DataSourceBuilder.create()
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls[i].trim())
+                    .username(environment.getProperty(PREFIX + "username", properties.determineUsername()))
+                    .password(environment.getProperty(PREFIX + "password", properties.determinePassword())), environment);
+            replica.setPoolName(primary.getPoolName() + "-replica-" + i);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas,
+                environment.getProperty(PREFIX + "lag-query"),
+                environment.getProperty(PREFIX + "max-lag-ms", Long.class, 1000L));
+        routingDataSource.startHealthChecks(environment.getProperty(PREFIX + "health-check-interval-ms", Long.class, 5000L));
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(DataSourceBuilder<?> builder, Environment environment) {
+        HikariDataSource dataSource = builder.type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName("football-db");
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.converters.BinaryMediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Responses of single resources in the binary format the client prefers. The format is chosen before the response
+ * is written, so that its {@code ETag} names the format and Spring MVC writes the body in that same format.
+ */
+final class BinaryResponses {
+
+    /**
+     * The binary formats, in the order they are chosen when the client accepts several of them equally.
+     */
+    static final List<MediaType> MEDIA_TYPES = List.of(MediaType.APPLICATION_CBOR, BinaryMediaTypes.SMILE, BinaryMediaTypes.PROTOBUF);
+
+    private BinaryResponses() {
+    }
+
+    /**
+     * Builds a 200 (OK) response with the body in the preferred binary format, its format-specific {@code ETag} and
+     * {@code Vary: Accept}. Spring MVC answers requests whose {@code If-None-Match} header matches the tag with
+     * 304 (NOT MODIFIED) and no body instead.
+     *
+     * @param body   the resource
+     * @param tag    the entity tag of the resource
+     * @param accept the value of the {@code Accept} header, or null if the request carries none
+     * @param <T>    the type of the resource
+     * @return the response entity
+     */
+    static <T> ResponseEntity<T> tagged(T body, String tag, String accept) {
+        MediaType mediaType = select(accept);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType);
+        headers.setETag(EntityTags.forFormat(tag, mediaType));
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Selects the binary format of a response as Spring MVC's content negotiation does: the accepted media types are
+     * tried by quality and then specificity, and the first binary format compatible with one of them is selected.
+     *
+     * @param accept the value of the {@code Accept} header, or null if the request carries none
+     * @return the selected media type, the first binary format if none is accepted explicitly
+     */
+    static MediaType select(String accept) {
+        List<MediaType> acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType acceptableType : acceptable) {
+            for (MediaType mediaType : MEDIA_TYPES) {
+                if (acceptableType.getQualityValue() > 0 && acceptableType.isCompatibleWith(mediaType)) {
+                    return mediaType;
+                }
+            }
+        }
+        return MEDIA_TYPES.get(0);
+    }
+}
@@ -1,13 +1,21 @@
 package com.ispydeer.footballteamdb.controllers;
 
+import com.ispydeer.footballteamdb.cache.CachedResponse;
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.cache.ResponseCache;
+import com.ispydeer.footballteamdb.converters.BinaryMediaTypes;
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
 import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
 import com.ispydeer.footballteamdb.services.ClubService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * REST controller for managing football clubs.
@@ -16,9 +24,11 @@ import java.util.Optional;
 public class ClubController {
 
     private ClubService clubService;
+    private ResponseCache responseCache;
 
-    public ClubController(ClubService clubService) {
+    public ClubController(ClubService clubService, ResponseCache responseCache) {
         this.clubService = clubService;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -33,69 +43,186 @@ public class ClubController {
     }
 
     /**
-     * Retrieves a football club by its ID.
+     * Retrieves a football club by its ID. The serialized club is cached together with its {@code ETag},
+     * requests with a matching {@code If-None-Match} header get HTTP status 304 (NOT MODIFIED) without a body.
      *
      * @param id the ID of the club to retrieve
-     * @return a ResponseEntity containing the ClubDto and HTTP status 200 (OK) if found, or HTTP status 404 (NOT FOUND) if not
+     * @return a ResponseEntity containing the serialized ClubDto and HTTP status 200 (OK) if found, or HTTP status 404 (NOT FOUND) if not
      */
     @GetMapping(path = "/clubs/{id}")
-    public ResponseEntity<ClubDto> retrieveClub(@PathVariable Long id) {
-        Optional<ClubDto> clubDtoOptional = clubService.retrieveClubById(id);
-        return clubDtoOptional.map(clubDto -> new ResponseEntity<>(clubDto, HttpStatus.OK))
+    public ResponseEntity<byte[]> retrieveClub(@PathVariable Long id) {
+        return responseCache.club(id, clubService::retrieveClubById)
+                .map(CachedResponse::toResponseEntity)
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
-     * Retrieves all football clubs.
+     * Retrieves a football club by its ID as CBOR, Smile or Protobuf, for clients that accept one of these formats
+     * and not JSON. Binary responses are not cached, but requests with a matching {@code If-None-Match} header still get
+     * HTTP status 304 (NOT MODIFIED) without a body. Their {@code ETag} names the format, so that it differs from the
+     * tags of the other representations.
      *
-     * @return a ResponseEntity containing a list of ClubDto objects and HTTP status 200 (OK)
+     * @param id     the ID of the club to retrieve
+     * @param accept the {@code Accept} header, which selects the format
+     * @return a ResponseEntity containing the ClubDto, its {@code ETag} and HTTP status 200 (OK) if found, or HTTP status 404 (NOT FOUND) if not
+     */
+    @GetMapping(path = "/clubs/{id}", produces = {MediaType.APPLICATION_CBOR_VALUE, BinaryMediaTypes.SMILE_VALUE, BinaryMediaTypes.PROTOBUF_VALUE})
+    public ResponseEntity<ClubDto> retrieveClubInBinaryFormat(@PathVariable Long id,
+                                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return clubService.retrieveClubById(id)
+                .map(clubDto -> BinaryResponses.tagged(clubDto, EntityTags.of(clubDto), accept))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Retrieves a page of football clubs, ordered by ID.
+     *
+     * @param after the ID of the last club of the previous page, or absent to start from the beginning
+     * @param limit the maximum number of clubs to return
+     * @return a ResponseEntity containing a list of ClubDto objects, a {@code Link} header pointing to the next page
+     * when there may be more clubs, and HTTP status 200 (OK)
      */
     @GetMapping(path = "/clubs")
-    public ResponseEntity<List<ClubDto>> retrieveAllClubs() {
-        return new ResponseEntity<>(clubService.retrieveAllClubs(), HttpStatus.OK);
+    public ResponseEntity<List<ClubDto>> retrieveAllClubs(@RequestParam(required = false) Long after,
+                                                          @RequestParam(defaultValue = CursorPagination.DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        List<ClubDto> page = clubService.retrieveClubsPage(after == null ? 0 : after, pageSize);
+        return CursorPagination.pageResponse(page, pageSize, ClubDto::getId);
+    }
+
+    /**
+     * Retrieves a page of the players of a football club, ordered by ID.
+     *
+     * @param id    the ID of the club
+     * @param after the ID of the last player of the previous page, or absent to start from the beginning
+     * @param limit the maximum number of players to return
+     * @return a ResponseEntity containing a list of PlayerDto objects, a {@code Link} header pointing to the next page
+     * when there may be more players, and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the club does not exist
+     */
+    @GetMapping(path = "/clubs/{id}/players")
+    public ResponseEntity<List<PlayerDto>> retrieveClubPlayers(@PathVariable Long id,
+                                                               @RequestParam(required = false) Long after,
+                                                               @RequestParam(defaultValue = CursorPagination.DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        return clubService.retrieveClubPlayersPage(id, after == null ? 0 : after, pageSize)
+                .map(page -> CursorPagination.pageResponse(page, pageSize, PlayerDto::getId))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
-     * Fully updates a football club by its ID.
+     * Retrieves the number of players of a football club per position.
+     *
+     * @param id the ID of the club
+     * @return a ResponseEntity containing the player count of every position and HTTP status 200 (OK),
+     * or HTTP status 404 (NOT FOUND) if the club does not exist
+     */
+    @GetMapping(path = "/clubs/{id}/players/summary")
+    public ResponseEntity<Map<Position, Long>> retrieveClubPlayersSummary(@PathVariable Long id) {
+        return clubService.retrievePlayerCountsByPosition(id)
+                .map(counts -> new ResponseEntity<>(counts, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Fully updates a football club by its ID. With an {@code If-Match} header the update only happens
+     * if the club still has one of the given entity tags, otherwise HTTP status 412 (PRECONDITION FAILED) is returned.
      *
      * @param id      the ID of the club to update
+     * @param ifMatch the entity tags the club must have, or absent for an unconditional update
      * @param clubDto the data transfer object containing updated club details
-     * @return a ResponseEntity containing the updated ClubDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the club does not exist
+     * @return a ResponseEntity containing the updated ClubDto, its new {@code ETag} and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the club does not exist
      */
     @PutMapping(path = "/clubs/{id}")
-    public ResponseEntity<ClubDto> fullUpdateClub(@PathVariable Long id, @RequestBody ClubDto clubDto) {
-        if (clubService.existsClubById(id)) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
-        clubDto.setId(id);
-        return new ResponseEntity<>(clubService.createClub(clubDto), HttpStatus.OK);
+    public ResponseEntity<ClubDto> fullUpdateClub(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @RequestBody ClubDto clubDto) {
+        return clubService.fullUpdateClub(clubDto, id, ifMatch)
+                .map(this::updatedResponse)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
-     * Partially updates a football club by its ID.
+     * Partially updates a football club by its ID. With an {@code If-Match} header the update only happens
+     * if the club still has one of the given entity tags, otherwise HTTP status 412 (PRECONDITION FAILED) is returned.
      *
      * @param id      the ID of the club to update
+     * @param ifMatch the entity tags the club must have, or absent for an unconditional update
      * @param clubDto the data transfer object containing partial club updates
-     * @return a ResponseEntity containing the updated ClubDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the club does not exist
+     * @return a ResponseEntity containing the updated ClubDto, its new {@code ETag} and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the club does not exist
      */
     @PatchMapping(path = "/clubs/{id}")
-    public ResponseEntity<ClubDto> partialUpdateClub(@PathVariable Long id, @RequestBody ClubDto clubDto) {
-        if (clubService.existsClubById(id)) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    public ResponseEntity<ClubDto> partialUpdateClub(@PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                     @RequestBody ClubDto clubDto) {
+        return clubService.partialUpdateClub(clubDto, id, ifMatch)
+                .map(this::updatedResponse)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Increments a football club's total trophies in the database, without reading the club first.
+     *
+     * @param id the ID of the club
+     * @param by the number of trophies to add, which must be positive
+     * @return a ResponseEntity with HTTP status 204 (NO CONTENT), HTTP status 400 (BAD REQUEST) if {@code by} is not positive,
+     * or HTTP status 404 (NOT FOUND) if the club does not exist
+     */
+    @PostMapping(path = "/clubs/{id}/trophies/increment")
+    public ResponseEntity<Void> incrementTotalTrophies(@PathVariable Long id, @RequestParam(defaultValue = "1") int by) {
+        if (by <= 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
-        clubDto.setId(id);
-        return new ResponseEntity<>(clubService.partialUpdateClub(clubDto, id), HttpStatus.OK);
+        return adjustedResponse(id, clubService.addTotalTrophies(id, by));
     }
 
     /**
-     * Deletes a football club by its ID.
+     * Decrements a football club's total trophies in the database, without reading the club first.
+     * The total does not drop below zero.
      *
-     * @param id the ID of the club to delete
+     * @param id the ID of the club
+     * @param by the number of trophies to remove, which must be positive
+     * @return a ResponseEntity with HTTP status 204 (NO CONTENT), HTTP status 400 (BAD REQUEST) if {@code by} is not positive,
+     * or HTTP status 404 (NOT FOUND) if the club does not exist
+     */
+    @PostMapping(path = "/clubs/{id}/trophies/decrement")
+    public ResponseEntity<Void> decrementTotalTrophies(@PathVariable Long id, @RequestParam(defaultValue = "1") int by) {
+        if (by <= 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return adjustedResponse(id, clubService.addTotalTrophies(id, -by));
+    }
+
+    /**
+     * Deletes a football club by its ID. With an {@code If-Match} header the club is only deleted if it
+     * still has one of the given entity tags, otherwise HTTP status 412 (PRECONDITION FAILED) is returned.
+     *
+     * @param id      the ID of the club to delete
+     * @param ifMatch the entity tags the club must have, or absent for an unconditional delete
      * @return a ResponseEntity with HTTP status 204 (NO CONTENT) upon successful deletion
      */
     @DeleteMapping(path = "/clubs/{id}")
-    public ResponseEntity<ClubDto> deleteClub(@PathVariable Long id) {
-        clubService.deleteClubById(id);
+    public ResponseEntity<ClubDto> deleteClub(@PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        clubService.deleteClubById(id, ifMatch);
+        responseCache.invalidateClub(id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private ResponseEntity<Void> adjustedResponse(long id, boolean updated) {
+        if (!updated) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        responseCache.invalidateClub(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private ResponseEntity<ClubDto> updatedResponse(ClubDto updatedClub) {
+        responseCache.invalidateClub(updatedClub.getId());
+        return taggedResponse(updatedClub);
+    }
+
+    private ResponseEntity<ClubDto> taggedResponse(ClubDto clubDto) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(EntityTags.of(clubDto));
+        return new ResponseEntity<>(clubDto, headers, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,37 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import com.ispydeer.footballteamdb.services.PreconditionFailedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps rejected concurrent writes to HTTP statuses.
+ */
+@RestControllerAdvice
+public class ConcurrencyExceptionHandler {
+
+    /**
+     * Handles a conditional write whose {@code If-Match} header did not match the resource.
+     *
+     * @param e the exception
+     * @return a ResponseEntity with HTTP status 412 (PRECONDITION FAILED)
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Void> handlePreconditionFailed(PreconditionFailedException e) {
+        return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles an unconditional write that lost a race against a concurrent update of the same resource.
+     *
+     * @param e the exception
+     * @return a ResponseEntity with HTTP status 409 (CONFLICT)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return new ResponseEntity<>(HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset (cursor) paginated list endpoints.
+ * The cursor is the ID of the last element of the previous page and the link to the next page
+ * is returned in the {@code Link} header, so the response body stays a plain JSON array.
+ */
+final class CursorPagination {
+
+    static final String DEFAULT_PAGE_SIZE = "50";
+    static final int MAX_PAGE_SIZE = 500;
+
+    private CursorPagination() {
+    }
+
+    /**
+     * Clamps the requested page size to the range supported by the API.
+     *
+     * @param limit the requested page size
+     * @return the page size to use
+     */
+    static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Builds the response for a page, adding a {@code rel="next"} link when the page is full.
+     *
+     * @param page        the elements of the page
+     * @param limit       the page size used to query the page
+     * @param idExtractor function returning the ID of an element
+     * @return a ResponseEntity containing the page and HTTP status 200 (OK)
+     */
+    static <T> ResponseEntity<List<T>> pageResponse(List<T> page, int limit, Function<T, Long> idExtractor) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.size() == limit) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", idExtractor.apply(page.get(page.size() - 1)))
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return new ResponseEntity<>(page, headers, HttpStatus.OK);
+    }
+}
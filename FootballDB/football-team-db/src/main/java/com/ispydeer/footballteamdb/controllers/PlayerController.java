@@ -1,13 +1,29 @@
 package com.ispydeer.footballteamdb.controllers;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ispydeer.footballteamdb.cache.CachedResponse;
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.cache.ResponseCache;
+import com.ispydeer.footballteamdb.converters.BinaryMediaTypes;
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
 import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.filters.PlayerFilter;
 import com.ispydeer.footballteamdb.services.PlayerService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * REST controller for managing football players.
@@ -16,9 +32,13 @@ import java.util.Optional;
 public class PlayerController {
 
     private PlayerService playerService;
+    private ObjectMapper objectMapper;
+    private ResponseCache responseCache;
 
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, ObjectMapper objectMapper, ResponseCache responseCache) {
         this.playerService = playerService;
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -29,73 +49,224 @@ public class PlayerController {
      */
     @PostMapping(path = "/players")
     public ResponseEntity<PlayerDto> createPlayer(@RequestBody PlayerDto playerDto) {
-        return new ResponseEntity<>(playerService.createPlayer(playerDto), HttpStatus.CREATED);
+        PlayerDto createdPlayer = playerService.createPlayer(playerDto);
+        invalidateCachedResponses(createdPlayer);
+        return new ResponseEntity<>(createdPlayer, HttpStatus.CREATED);
     }
 
     /**
-     * Retrieves a football player by their ID.
+     * Creates or updates many football players at once from a JSON array.
+     *
+     * @param playerDtos the data transfer objects containing player details
+     * @return a ResponseEntity containing the created PlayerDto objects and HTTP status 201 (CREATED)
+     */
+    @PostMapping(path = "/players/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PlayerDto>> createPlayers(@RequestBody List<PlayerDto> playerDtos) {
+        List<PlayerDto> createdPlayers = playerService.createPlayers(playerDtos.iterator());
+        responseCache.invalidateAll();
+        return new ResponseEntity<>(createdPlayers, HttpStatus.CREATED);
+    }
+
+    /**
+     * Creates or updates many football players at once from newline-delimited JSON, one player per line.
+     * Players are read from the request body while earlier chunks are already being written.
+     *
+     * @param inputStream the request body
+     * @return a ResponseEntity containing the created PlayerDto objects and HTTP status 201 (CREATED)
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(path = "/players/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<PlayerDto>> createPlayersFromStream(InputStream inputStream) throws IOException {
+        try (MappingIterator<PlayerDto> playerDtos = objectMapper.readerFor(PlayerDto.class).readValues(inputStream)) {
+            List<PlayerDto> createdPlayers = playerService.createPlayers(playerDtos);
+            responseCache.invalidateAll();
+            return new ResponseEntity<>(createdPlayers, HttpStatus.CREATED);
+        }
+    }
+
+    /**
+     * Retrieves a football player by their ID. The serialized player is cached together with its {@code ETag},
+     * requests with a matching {@code If-None-Match} header get HTTP status 304 (NOT MODIFIED) without a body.
      *
      * @param id the ID of the player to retrieve
-     * @return a ResponseEntity containing the PlayerDto and HTTP status 200 if found, or HTTP status 404 (NOT FOUND) if not
+     * @return a ResponseEntity containing the serialized PlayerDto and HTTP status 200 if found, or HTTP status 404 (NOT FOUND) if not
      */
     @GetMapping(path = "/players/{id}")
-    public ResponseEntity<PlayerDto> retrievePlayer(@PathVariable Long id) {
-        Optional<PlayerDto> playerDtoOptional = playerService.retrievePlayerById(id);
-        return playerDtoOptional.map(playerDto -> new ResponseEntity<>(playerDto, HttpStatus.OK))
+    public ResponseEntity<byte[]> retrievePlayer(@PathVariable Long id) {
+        return responseCache.player(id, playerService::retrievePlayerById)
+                .map(CachedResponse::toResponseEntity)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Retrieves a football player by their ID as CBOR, Smile or Protobuf, for clients that accept one of these formats
+     * and not JSON. Binary responses are not cached, but requests with a matching {@code If-None-Match} header still get
+     * HTTP status 304 (NOT MODIFIED) without a body. Their {@code ETag} names the format, so that it differs from the
+     * tags of the other representations.
+     *
+     * @param id     the ID of the player to retrieve
+     * @param accept the {@code Accept} header, which selects the format
+     * @return a ResponseEntity containing the PlayerDto, its {@code ETag} and HTTP status 200 (OK) if found, or HTTP status 404 (NOT FOUND) if not
+     */
+    @GetMapping(path = "/players/{id}", produces = {MediaType.APPLICATION_CBOR_VALUE, BinaryMediaTypes.SMILE_VALUE, BinaryMediaTypes.PROTOBUF_VALUE})
+    public ResponseEntity<PlayerDto> retrievePlayerInBinaryFormat(@PathVariable Long id,
+                                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return playerService.retrievePlayerById(id)
+                .map(playerDto -> BinaryResponses.tagged(playerDto, EntityTags.of(playerDto), accept))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
-     * Retrieves all football players.
+     * Retrieves a page of football players, ordered by ID, optionally filtered by club, position and birth date.
      *
-     * @return a ResponseEntity containing a list of PlayerDto objects and HTTP status 200 (OK)
+     * @param after      the ID of the last player of the previous page, or absent to start from the beginning
+     * @param limit      the maximum number of players to return
+     * @param clubId     the ID of the players' club, or absent for any club
+     * @param position   the players' position, or absent for any position
+     * @param bornAfter  only players born after this date (ISO format), or absent for no lower bound
+     * @param bornBefore only players born before this date (ISO format), or absent for no upper bound
+     * @return a ResponseEntity containing a list of PlayerDto objects, a {@code Link} header pointing to the next page
+     * when there may be more players, and HTTP status 200 (OK)
      */
     @GetMapping(path = "/players")
-    public ResponseEntity<List<PlayerDto>> retrieveAllPlayers() {
-        return new ResponseEntity<>(playerService.retrieveAllPlayers(), HttpStatus.OK);
+    public ResponseEntity<List<PlayerDto>> retrieveAllPlayers(@RequestParam(required = false) Long after,
+                                                              @RequestParam(defaultValue = CursorPagination.DEFAULT_PAGE_SIZE) int limit,
+                                                              @RequestParam(required = false) Long clubId,
+                                                              @RequestParam(required = false) Position position,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornAfter,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornBefore) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        PlayerFilter filter = new PlayerFilter(clubId, position, bornAfter, bornBefore);
+        List<PlayerDto> page = playerService.retrievePlayersPage(filter, after == null ? 0 : after, pageSize);
+        return CursorPagination.pageResponse(page, pageSize, PlayerDto::getId);
+    }
+
+    /**
+     * Exports all football players as newline-delimited JSON, one player per line.
+     * The response is streamed while players are read from the database, so it starts immediately
+     * and its memory usage does not depend on the number of players.
+     *
+     * @return a ResponseEntity streaming the players and HTTP status 200 (OK)
+     */
+    @GetMapping(path = "/players/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPlayers() {
+        StreamingResponseBody body = outputStream -> playerService.exportPlayers(playerDto -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(playerDto));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     /**
-     * Fully updates a football player by their ID.
+     * Fully updates a football player by their ID. With an {@code If-Match} header the update only happens
+     * if the player still has one of the given entity tags, otherwise HTTP status 412 (PRECONDITION FAILED) is returned.
      *
      * @param id        the ID of the player to update
+     * @param ifMatch   the entity tags the player must have, or absent for an unconditional update
      * @param playerDto the data transfer object containing updated player details
-     * @return a ResponseEntity containing the updated PlayerDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the player does not exist
+     * @return a ResponseEntity containing the updated PlayerDto, its new {@code ETag} and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the player does not exist
      */
     @PutMapping(path = "/players/{id}")
-    public ResponseEntity<PlayerDto> fullUpdatePlayer(@PathVariable Long id, @RequestBody PlayerDto playerDto) {
-        if (playerService.existsPlayerById(id)) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
-        playerDto.setId(id);
-        return new ResponseEntity<>(playerService.createPlayer(playerDto), HttpStatus.OK);
+    public ResponseEntity<PlayerDto> fullUpdatePlayer(@PathVariable Long id,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                      @RequestBody PlayerDto playerDto) {
+        return playerService.fullUpdatePlayer(playerDto, id, ifMatch)
+                .map(this::updatedResponse)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
-     * Partially updates a football player by their ID.
+     * Partially updates a football player by their ID. With an {@code If-Match} header the update only happens
+     * if the player still has one of the given entity tags, otherwise HTTP status 412 (PRECONDITION FAILED) is returned.
      *
      * @param id        the ID of the player to update
+     * @param ifMatch   the entity tags the player must have, or absent for an unconditional update
      * @param playerDto the data transfer object containing partial player updates
-     * @return a ResponseEntity containing the updated PlayerDto and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the player does not exist
+     * @return a ResponseEntity containing the updated PlayerDto, its new {@code ETag} and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the player does not exist
      */
     @PatchMapping(path = "/players/{id}")
-    public ResponseEntity<PlayerDto> partialUpdatePlayer(@PathVariable Long id, @RequestBody PlayerDto playerDto) {
-        if (playerService.existsPlayerById(id)) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
-        playerDto.setId(id);
-        return new ResponseEntity<>(playerService.partialUpdatePlayer(playerDto, id), HttpStatus.OK);
+    public ResponseEntity<PlayerDto> partialUpdatePlayer(@PathVariable Long id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         @RequestBody PlayerDto playerDto) {
+        return playerService.partialUpdatePlayer(playerDto, id, ifMatch)
+                .map(this::updatedResponse)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
-     * Deletes a football player by their ID.
+     * Deletes a football player by their ID. With an {@code If-Match} header the player is only deleted if they
+     * still have one of the given entity tags, otherwise HTTP status 412 (PRECONDITION FAILED) is returned.
      *
-     * @param id the ID of the player to delete
+     * @param id      the ID of the player to delete
+     * @param ifMatch the entity tags the player must have, or absent for an unconditional delete
      * @return a ResponseEntity with HTTP status 204 (NO CONTENT) upon successful deletion
      */
     @DeleteMapping(path = "/players/{id}")
-    public ResponseEntity<PlayerDto> deletePlayer(@PathVariable Long id) {
-        playerService.deletePlayerById(id);
+    public ResponseEntity<PlayerDto> deletePlayer(@PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        playerService.deletePlayerById(id, ifMatch);
+        responseCache.invalidatePlayer(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * Moves all players of a club to another club with one set-based update, without loading the players.
+     *
+     * @param fromClubId the ID of the club the players leave
+     * @param toClubId   the ID of the club the players join
+     * @return a ResponseEntity containing the number of moved players and HTTP status 200 (OK), or HTTP status 404 (NOT FOUND) if the target club does not exist
+     */
+    @PostMapping(path = "/players/transfer")
+    public ResponseEntity<Map<String, Integer>> transferPlayers(@RequestParam Long fromClubId, @RequestParam Long toClubId) {
+        return playerService.transferPlayers(fromClubId, toClubId)
+                .map(updated -> {
+                    if (updated > 0) {
+                        responseCache.invalidatePlayersOfClub(fromClubId);
+                    }
+                    return new ResponseEntity<>(Map.of("updated", updated), HttpStatus.OK);
+                })
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Deletes many football players by their IDs with set-based deletes, without loading the players.
+     * IDs of players that do not exist are ignored.
+     *
+     * @param ids the IDs of the players to delete
+     * @return a ResponseEntity containing the number of deleted players and HTTP status 200 (OK)
+     */
+    @DeleteMapping(path = "/players", params = "ids")
+    public ResponseEntity<Map<String, Integer>> deletePlayers(@RequestParam List<Long> ids) {
+        int deleted = playerService.deletePlayersByIds(ids);
+        responseCache.invalidateAllPlayers();
+        return new ResponseEntity<>(Map.of("deleted", deleted), HttpStatus.OK);
+    }
+
+    private ResponseEntity<PlayerDto> updatedResponse(PlayerDto updatedPlayer) {
+        invalidateCachedResponses(updatedPlayer);
+        return taggedResponse(updatedPlayer);
+    }
+
+    private ResponseEntity<PlayerDto> taggedResponse(PlayerDto playerDto) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(EntityTags.of(playerDto));
+        return new ResponseEntity<>(playerDto, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Invalidates the cached responses of a written player and, when player writes also write the club, of its club.
+     *
+     * @param playerDto the written player
+     */
+    private void invalidateCachedResponses(PlayerDto playerDto) {
+        responseCache.invalidatePlayer(playerDto.getId());
+        if (playerService.isClubWrittenWithPlayer() && playerDto.getClub() != null && playerDto.getClub().getId() != null) {
+            responseCache.invalidateClub(playerDto.getClub().getId());
+        }
+    }
 }
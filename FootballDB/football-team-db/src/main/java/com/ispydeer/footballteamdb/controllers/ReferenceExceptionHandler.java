@@ -0,0 +1,26 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import com.ispydeer.footballteamdb.services.UnknownClubException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps writes referring to resources that do not exist to HTTP statuses.
+ */
+@RestControllerAdvice
+public class ReferenceExceptionHandler {
+
+    /**
+     * Handles a player write whose club ID does not belong to any club. The request is well-formed and the player
+     * resource may exist, so neither 400 nor 404 applies.
+     *
+     * @param e the exception
+     * @return a ResponseEntity with HTTP status 422 (UNPROCESSABLE ENTITY)
+     */
+    @ExceptionHandler(UnknownClubException.class)
+    public ResponseEntity<Void> handleUnknownClub(UnknownClubException e) {
+        return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
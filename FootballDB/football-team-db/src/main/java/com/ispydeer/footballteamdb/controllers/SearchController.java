@@ -0,0 +1,41 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import com.ispydeer.footballteamdb.search.SearchHit;
+import com.ispydeer.footballteamdb.search.SearchIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for searching football players and clubs by name.
+ */
+@RestController
+public class SearchController {
+
+    private static final String DEFAULT_LIMIT = "10";
+    private static final int MAX_LIMIT = 50;
+
+    private SearchIndex searchIndex;
+
+    public SearchController(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Searches players by first and last name and clubs by name and short name. Every word of the query must be
+     * the beginning of a word of the name; if that gives too few hits, names with a similar spelling are added.
+     *
+     * @param q     the search text
+     * @param limit the maximum number of hits to return
+     * @return a ResponseEntity containing the hits ordered by decreasing score and HTTP status 200 (OK)
+     */
+    @GetMapping(path = "/search")
+    public ResponseEntity<List<SearchHit>> search(@RequestParam String q,
+                                                  @RequestParam(defaultValue = DEFAULT_LIMIT) int limit) {
+        return new ResponseEntity<>(searchIndex.search(q, Math.max(1, Math.min(limit, MAX_LIMIT))), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ispydeer.footballteamdb.converters;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types of the binary payload formats, next to {@link MediaType#APPLICATION_CBOR}.
+ */
+public final class BinaryMediaTypes {
+
+    /**
+     * Jackson Smile, the binary JSON format of Jackson.
+     */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+
+    /**
+     * Protobuf messages of {@code footballdb.proto}.
+     */
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType PROTOBUF = MediaType.valueOf(PROTOBUF_VALUE);
+
+    private BinaryMediaTypes() {
+    }
+}
@@ -0,0 +1,347 @@
+package com.ispydeer.footballteamdb.converters;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encodes and decodes players and clubs in the Protobuf wire format of the messages in {@code footballdb.proto},
+ * directly from and to the DTOs, without generated message classes. Absent fields are {@code null} in the DTOs
+ * and {@code null} fields are not written. Lists are encoded as {@code PlayerList} and {@code ClubList} messages.
+ * The field and enum numbers below must match the schema, which {@code ProtobufCodecTests} checks against the file.
+ */
+public final class ProtobufCodec {
+
+    private static final int VARINT = WireFormat.WIRETYPE_VARINT;
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private static final int CLUB_ID = 1;
+    private static final int CLUB_NAME = 2;
+    private static final int CLUB_SHORT_NAME = 3;
+    private static final int CLUB_FOUNDING_DATE = 4;
+    private static final int CLUB_TOTAL_TROPHIES = 5;
+    private static final int CLUB_VERSION = 6;
+
+    private static final int PLAYER_ID = 1;
+    private static final int PLAYER_FIRST_NAME = 2;
+    private static final int PLAYER_LAST_NAME = 3;
+    private static final int PLAYER_BIRTH_DATE = 4;
+    private static final int PLAYER_POSITION = 5;
+    private static final int PLAYER_CLUB = 6;
+    private static final int PLAYER_VERSION = 7;
+
+    private static final int LIST_ELEMENTS = 1;
+
+    private ProtobufCodec() {
+    }
+
+    /**
+     * Writes a player as a {@code Player} message.
+     *
+     * @param playerDto    the player
+     * @param outputStream the stream to write to, left open
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writePlayer(PlayerDto playerDto, OutputStream outputStream) throws IOException {
+        write(playerDto, outputStream);
+    }
+
+    /**
+     * Writes players as a {@code PlayerList} message.
+     *
+     * @param playerDtos   the players
+     * @param outputStream the stream to write to, left open
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writePlayers(Collection<PlayerDto> playerDtos, OutputStream outputStream) throws IOException {
+        writeList(playerDtos, outputStream);
+    }
+
+    /**
+     * Writes a club as a {@code Club} message.
+     *
+     * @param clubDto      the club
+     * @param outputStream the stream to write to, left open
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeClub(ClubDto clubDto, OutputStream outputStream) throws IOException {
+        write(clubDto, outputStream);
+    }
+
+    /**
+     * Writes clubs as a {@code ClubList} message.
+     *
+     * @param clubDtos     the clubs
+     * @param outputStream the stream to write to, left open
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeClubs(Collection<ClubDto> clubDtos, OutputStream outputStream) throws IOException {
+        writeList(clubDtos, outputStream);
+    }
+
+    /**
+     * Reads a {@code Player} message.
+     *
+     * @param inputStream the stream to read the message from, up to its end
+     * @return the player
+     * @throws IOException if the stream cannot be read or does not hold a valid message
+     */
+    public static PlayerDto readPlayer(InputStream inputStream) throws IOException {
+        return readPlayer(CodedInputStream.newInstance(inputStream));
+    }
+
+    /**
+     * Reads a {@code PlayerList} message.
+     *
+     * @param inputStream the stream to read the message from, up to its end
+     * @return the players
+     * @throws IOException if the stream cannot be read or does not hold a valid message
+     */
+    public static List<PlayerDto> readPlayers(InputStream inputStream) throws IOException {
+        return readList(CodedInputStream.newInstance(inputStream), ProtobufCodec::readPlayer);
+    }
+
+    /**
+     * Reads a {@code Club} message.
+     *
+     * @param inputStream the stream to read the message from, up to its end
+     * @return the club
+     * @throws IOException if the stream cannot be read or does not hold a valid message
+     */
+    public static ClubDto readClub(InputStream inputStream) throws IOException {
+        return readClub(CodedInputStream.newInstance(inputStream));
+    }
+
+    /**
+     * Reads a {@code ClubList} message.
+     *
+     * @param inputStream the stream to read the message from, up to its end
+     * @return the clubs
+     * @throws IOException if the stream cannot be read or does not hold a valid message
+     */
+    public static List<ClubDto> readClubs(InputStream inputStream) throws IOException {
+        return readList(CodedInputStream.newInstance(inputStream), ProtobufCodec::readClub);
+    }
+
+    static void write(Object dto, OutputStream outputStream) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+        writeFields(output, dto);
+        output.flush();
+    }
+
+    static void writeList(Collection<?> dtos, OutputStream outputStream) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+        for (Object dto : dtos) {
+            writeMessage(output, LIST_ELEMENTS, dto);
+        }
+        output.flush();
+    }
+
+    private static void writeMessage(CodedOutputStream output, int fieldNumber, Object dto) throws IOException {
+        output.writeTag(fieldNumber, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(size(dto));
+        writeFields(output, dto);
+    }
+
+    private static void writeFields(CodedOutputStream output, Object dto) throws IOException {
+        if (dto instanceof PlayerDto playerDto) {
+            writePlayerFields(output, playerDto);
+        } else if (dto instanceof ClubDto clubDto) {
+            writeClubFields(output, clubDto);
+        } else {
+            throw new IllegalArgumentException("No Protobuf message for " + dto.getClass().getName());
+        }
+    }
+
+    private static void writePlayerFields(CodedOutputStream output, PlayerDto playerDto) throws IOException {
+        if (playerDto.getId() != null) {
+            output.writeInt64(PLAYER_ID, playerDto.getId());
+        }
+        if (playerDto.getFirstName() != null) {
+            output.writeString(PLAYER_FIRST_NAME, playerDto.getFirstName());
+        }
+        if (playerDto.getLastName() != null) {
+            output.writeString(PLAYER_LAST_NAME, playerDto.getLastName());
+        }
+        if (playerDto.getBirthDate() != null) {
+            output.writeSInt64(PLAYER_BIRTH_DATE, playerDto.getBirthDate().toEpochDay());
+        }
+        if (playerDto.getPosition() != null) {
+            output.writeEnum(PLAYER_POSITION, positionNumber(playerDto.getPosition()));
+        }
+        if (playerDto.getClub() != null) {
+            writeMessage(output, PLAYER_CLUB, playerDto.getClub());
+        }
+        if (playerDto.getVersion() != null) {
+            output.writeInt64(PLAYER_VERSION, playerDto.getVersion());
+        }
+    }
+
+    private static void writeClubFields(CodedOutputStream output, ClubDto clubDto) throws IOException {
+        if (clubDto.getId() != null) {
+            output.writeInt64(CLUB_ID, clubDto.getId());
+        }
+        if (clubDto.getName() != null) {
+            output.writeString(CLUB_NAME, clubDto.getName());
+        }
+        if (clubDto.getShortName() != null) {
+            output.writeString(CLUB_SHORT_NAME, clubDto.getShortName());
+        }
+        if (clubDto.getFoundingDate() != null) {
+            output.writeSInt64(CLUB_FOUNDING_DATE, clubDto.getFoundingDate().toEpochDay());
+        }
+        if (clubDto.getTotalTrophies() != null) {
+            output.writeInt32(CLUB_TOTAL_TROPHIES, clubDto.getTotalTrophies());
+        }
+        if (clubDto.getVersion() != null) {
+            output.writeInt64(CLUB_VERSION, clubDto.getVersion());
+        }
+    }
+
+    /**
+     * Computes the encoded size of a message, which precedes the message when it is nested in another one.
+     */
+    private static int size(Object dto) {
+        int size = 0;
+        if (dto instanceof PlayerDto playerDto) {
+            if (playerDto.getId() != null) {
+                size += CodedOutputStream.computeInt64Size(PLAYER_ID, playerDto.getId());
+            }
+            if (playerDto.getFirstName() != null) {
+                size += CodedOutputStream.computeStringSize(PLAYER_FIRST_NAME, playerDto.getFirstName());
+            }
+            if (playerDto.getLastName() != null) {
+                size += CodedOutputStream.computeStringSize(PLAYER_LAST_NAME, playerDto.getLastName());
+            }
+            if (playerDto.getBirthDate() != null) {
+                size += CodedOutputStream.computeSInt64Size(PLAYER_BIRTH_DATE, playerDto.getBirthDate().toEpochDay());
+            }
+            if (playerDto.getPosition() != null) {
+                size += CodedOutputStream.computeEnumSize(PLAYER_POSITION, positionNumber(playerDto.getPosition()));
+            }
+            if (playerDto.getClub() != null) {
+                int clubSize = size(playerDto.getClub());
+                size += CodedOutputStream.computeTagSize(PLAYER_CLUB) + CodedOutputStream.computeUInt32SizeNoTag(clubSize) + clubSize;
+            }
+            if (playerDto.getVersion() != null) {
+                size += CodedOutputStream.computeInt64Size(PLAYER_VERSION, playerDto.getVersion());
+            }
+        } else if (dto instanceof ClubDto clubDto) {
+            if (clubDto.getId() != null) {
+                size += CodedOutputStream.computeInt64Size(CLUB_ID, clubDto.getId());
+            }
+            if (clubDto.getName() != null) {
+                size += CodedOutputStream.computeStringSize(CLUB_NAME, clubDto.getName());
+            }
+            if (clubDto.getShortName() != null) {
+                size += CodedOutputStream.computeStringSize(CLUB_SHORT_NAME, clubDto.getShortName());
+            }
+            if (clubDto.getFoundingDate() != null) {
+                size += CodedOutputStream.computeSInt64Size(CLUB_FOUNDING_DATE, clubDto.getFoundingDate().toEpochDay());
+            }
+            if (clubDto.getTotalTrophies() != null) {
+                size += CodedOutputStream.computeInt32Size(CLUB_TOTAL_TROPHIES, clubDto.getTotalTrophies());
+            }
+            if (clubDto.getVersion() != null) {
+                size += CodedOutputStream.computeInt64Size(CLUB_VERSION, clubDto.getVersion());
+            }
+        }
+        return size;
+    }
+
+    private static PlayerDto readPlayer(CodedInputStream input) throws IOException {
+        PlayerDto playerDto = new PlayerDto();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag) {
+                case PLAYER_ID << 3 | VARINT -> playerDto.setId(input.readInt64());
+                case PLAYER_FIRST_NAME << 3 | LENGTH_DELIMITED -> playerDto.setFirstName(input.readString());
+                case PLAYER_LAST_NAME << 3 | LENGTH_DELIMITED -> playerDto.setLastName(input.readString());
+                case PLAYER_BIRTH_DATE << 3 | VARINT -> playerDto.setBirthDate(LocalDate.ofEpochDay(input.readSInt64()));
+                case PLAYER_POSITION << 3 | VARINT -> playerDto.setPosition(position(input.readEnum()));
+                case PLAYER_CLUB << 3 | LENGTH_DELIMITED -> playerDto.setClub(readMessage(input, ProtobufCodec::readClub));
+                case PLAYER_VERSION << 3 | VARINT -> playerDto.setVersion(input.readInt64());
+                default -> input.skipField(tag);
+            }
+        }
+        return playerDto;
+    }
+
+    private static ClubDto readClub(CodedInputStream input) throws IOException {
+        ClubDto clubDto = new ClubDto();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag) {
+                case CLUB_ID << 3 | VARINT -> clubDto.setId(input.readInt64());
+                case CLUB_NAME << 3 | LENGTH_DELIMITED -> clubDto.setName(input.readString());
+                case CLUB_SHORT_NAME << 3 | LENGTH_DELIMITED -> clubDto.setShortName(input.readString());
+                case CLUB_FOUNDING_DATE << 3 | VARINT -> clubDto.setFoundingDate(LocalDate.ofEpochDay(input.readSInt64()));
+                case CLUB_TOTAL_TROPHIES << 3 | VARINT -> clubDto.setTotalTrophies(input.readInt32());
+                case CLUB_VERSION << 3 | VARINT -> clubDto.setVersion(input.readInt64());
+                default -> input.skipField(tag);
+            }
+        }
+        return clubDto;
+    }
+
+    private static <T> List<T> readList(CodedInputStream input, MessageReader<T> reader) throws IOException {
+        List<T> dtos = new ArrayList<>();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (tag == (LIST_ELEMENTS << 3 | LENGTH_DELIMITED)) {
+                dtos.add(readMessage(input, reader));
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return dtos;
+    }
+
+    private static <T> T readMessage(CodedInputStream input, MessageReader<T> reader) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        T dto = reader.read(input);
+        input.popLimit(limit);
+        return dto;
+    }
+
+    /**
+     * Protobuf enum number of a position, as declared in {@code footballdb.proto}. The numbers are part of the wire
+     * format, so they must not follow the declaration order of {@code Position}.
+     */
+    private static int positionNumber(Position position) {
+        return switch (position) {
+            case GOALKEEPER -> 1;
+            case DEFENDER -> 2;
+            case MIDFIELDER -> 3;
+            case STRIKER -> 4;
+            case WINGER -> 5;
+        };
+    }
+
+    /**
+     * Position of a Protobuf enum number, {@code null} for an unset position or one this version does not know.
+     */
+    private static Position position(int number) {
+        return switch (number) {
+            case 1 -> Position.GOALKEEPER;
+            case 2 -> Position.DEFENDER;
+            case 3 -> Position.MIDFIELDER;
+            case 4 -> Position.STRIKER;
+            case 5 -> Position.WINGER;
+            default -> null;
+        };
+    }
+
+    @FunctionalInterface
+    private interface MessageReader<T> {
+        T read(CodedInputStream input) throws IOException;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ispydeer.footballteamdb.converters;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes {@link PlayerDto} and {@link ClubDto} bodies, and lists of them, as {@code application/x-protobuf}
+ * with the {@link ProtobufCodec}. Versions are written but dropped from request bodies, as the JSON mapper ignores
+ * them, so that writes are only made conditional by the {@code If-Match} header.
+ */
+public class ProtobufDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public ProtobufDtoHttpMessageConverter() {
+        super(BinaryMediaTypes.PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == PlayerDto.class || clazz == ClubDto.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        boolean readable = supports(resolvableType.toClass())
+                || resolvableType.toClass().isAssignableFrom(ArrayList.class) && supports(resolvableType.asCollection().resolveGeneric());
+        return readable && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        ResolvableType resolvableType = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        boolean writable = supports(resolvableType.toClass())
+                || Collection.class.isAssignableFrom(resolvableType.toClass()) && supports(resolvableType.asCollection().resolveGeneric());
+        return writable && canWrite(mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        // lists are only known to hold players or clubs from their generic type, which canWrite already checked
+        return Collection.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : super.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public Object read(Type type,Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        if (resolvableType.toClass() == PlayerDto.class) {
+            return withoutVersion(ProtobufCodec.readPlayer(inputMessage.getBody()));
+        }
+        if (resolvableType.toClass() == ClubDto.class) {
+            return withoutVersion(ProtobufCodec.readClub(inputMessage.getBody()));
+        }
+        if (resolvableType.asCollection().resolveGeneric() == PlayerDto.class) {
+            List<PlayerDto> playerDtos = ProtobufCodec.readPlayers(inputMessage.getBody());
+            playerDtos.forEach(ProtobufDtoHttpMessageConverter::withoutVersion);
+            return playerDtos;
+        }
+        List<ClubDto> clubDtos = ProtobufCodec.readClubs(inputMessage.getBody());
+        clubDtos.forEach(ProtobufDtoHttpMessageConverter::withoutVersion);
+        return clubDtos;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    private static PlayerDto withoutVersion(PlayerDto playerDto) {
+        playerDto.setVersion(null);
+        if (playerDto.getClub() != null) {
+            withoutVersion(playerDto.getClub());
+        }
+        return playerDto;
+    }
+
+    private static ClubDto withoutVersion(ClubDto clubDto) {
+        clubDto.setVersion(null);
+        return clubDto;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (object instanceof Collection<?> dtos) {
+            ProtobufCodec.writeList(dtos, outputMessage.getBody());
+        } else {
+            ProtobufCodec.write(object, outputMessage.getBody());
+        }
+    }
+}
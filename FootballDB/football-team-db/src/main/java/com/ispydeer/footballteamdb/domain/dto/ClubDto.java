@@ -1,5 +1,6 @@
 package com.ispydeer.footballteamdb.domain.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,4 +18,9 @@ public class ClubDto {
     private String shortName;
     private LocalDate foundingDate;
     private Integer totalTrophies;
+    /**
+     * Version of the club, exposed as the {@code ETag} header rather than in the body.
+     */
+    @JsonIgnore
+    private Long version;
 }
@@ -1,5 +1,6 @@
 package com.ispydeer.footballteamdb.domain.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ispydeer.footballteamdb.domain.datatypes.Position;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,5 +20,9 @@ public class PlayerDto {
     private LocalDate birthDate;
     private Position position;
     private ClubDto club;
-
+    /**
+     * Version of the player, exposed as part of the {@code ETag} header rather than in the body.
+     */
+    @JsonIgnore
+    private Long version;
 }
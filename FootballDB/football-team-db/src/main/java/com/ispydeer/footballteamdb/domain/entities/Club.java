@@ -1,10 +1,16 @@
 package com.ispydeer.footballteamdb.domain.entities;
 
+import com.ispydeer.footballteamdb.domain.generators.PooledLoSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDate;
 
@@ -13,14 +19,23 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Club.CACHE_REGION)
 public class Club {
 
+    public static final String CACHE_REGION = "club";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(generator = "club_seq")
+    @GenericGenerator(name = "club_seq", type = PooledLoSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "club_seq"))
     private Long id;
 
     private String name;
     private String shortName;
     private LocalDate foundingDate;
     private Integer totalTrophies;
+
+    @Version
+    private Long version;
 }
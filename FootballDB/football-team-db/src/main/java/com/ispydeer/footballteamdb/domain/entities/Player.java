@@ -1,11 +1,17 @@
 package com.ispydeer.footballteamdb.domain.entities;
 
 import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.generators.PooledLoSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDate;
 
@@ -14,9 +20,17 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_player_club", columnList = "club_id, id"),
+        @Index(name = "idx_player_club_position", columnList = "club_id, position, id"),
+        @Index(name = "idx_player_position", columnList = "position, id"),
+        @Index(name = "idx_player_birth_date", columnList = "birth_date")
+})
 public class Player {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(generator = "player_seq")
+    @GenericGenerator(name = "player_seq", type = PooledLoSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "player_seq"))
     private Long id;
 
     private String firstName;
@@ -28,7 +42,11 @@ public class Player {
     @Enumerated(EnumType.STRING)
     private Position position;
 
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne(cascade = CascadeType.PERSIST)
     @JoinColumn(name = "club_id")
+    @Fetch(FetchMode.SELECT)
     private Club club;
+
+    @Version
+    private Long version;
 }
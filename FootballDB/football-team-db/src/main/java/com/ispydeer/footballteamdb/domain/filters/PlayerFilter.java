@@ -0,0 +1,25 @@
+package com.ispydeer.footballteamdb.domain.filters;
+
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+
+import java.time.LocalDate;
+
+/**
+ * Optional criteria for listing players. Null criteria are ignored, so an empty filter matches all players.
+ *
+ * @param clubId     the ID of the players' club
+ * @param position   the players' position
+ * @param bornAfter  exclusive lower bound of the players' birth date
+ * @param bornBefore exclusive upper bound of the players' birth date
+ */
+public record PlayerFilter(Long clubId, Position position, LocalDate bornAfter, LocalDate bornBefore) {
+
+    /**
+     * Returns a filter matching all players.
+     *
+     * @return the empty filter
+     */
+    public static PlayerFilter none() {
+        return new PlayerFilter(null, null, null, null);
+    }
+}
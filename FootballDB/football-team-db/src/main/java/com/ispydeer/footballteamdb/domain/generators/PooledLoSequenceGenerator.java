@@ -0,0 +1,39 @@
+package com.ispydeer.footballteamdb.domain.generators;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Sequence generator that always uses the pooled-lo optimizer and reads its allocation size
+ * from the Hibernate settings, so each entity sequence can be tuned without code changes.
+ * <p>
+ * The allocation size of a sequence is looked up under
+ * {@code footballdb.id.allocation-size.<sequence_name>} (set through {@code spring.jpa.properties.*})
+ * and falls back to {@link #DEFAULT_ALLOCATION_SIZE}. The increment of the database sequence must
+ * match the configured value.
+ */
+public class PooledLoSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING_PREFIX = "footballdb.id.allocation-size.";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        String sequenceName = parameters.getProperty(SEQUENCE_PARAM);
+        Integer allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING_PREFIX + sequenceName, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        if (allocationSize < 1) {
+            throw new MappingException("Allocation size of sequence " + sequenceName + " must be positive, got " + allocationSize);
+        }
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
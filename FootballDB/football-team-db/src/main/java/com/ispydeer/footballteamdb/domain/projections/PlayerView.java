@@ -0,0 +1,36 @@
+package com.ispydeer.footballteamdb.domain.projections;
+
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only projection of a player joined with its club, selected directly by JPQL constructor expressions
+ * so read queries skip entity hydration and dirty-tracking snapshots.
+ */
+public record PlayerView(Long id,
+                         String firstName,
+                         String lastName,
+                         LocalDate birthDate,
+                         Position position,
+                         Long version,
+                         Long clubId,
+                         String clubName,
+                         String clubShortName,
+                         LocalDate clubFoundingDate,
+                         Integer clubTotalTrophies,
+                         Long clubVersion) {
+
+    /**
+     * Converts the projection to a PlayerDto with its nested ClubDto.
+     *
+     * @return the corresponding PlayerDto, with a null club if the player has none
+     */
+    public PlayerDto toDto() {
+        ClubDto club = clubId == null ? null
+                : new ClubDto(clubId, clubName, clubShortName, clubFoundingDate, clubTotalTrophies, clubVersion);
+        return new PlayerDto(id, firstName, lastName, birthDate, position, club, version);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ispydeer.footballteamdb.domain.projections;
+
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+
+/**
+ * Number of players of a club playing on a position, computed by a grouped JPQL query.
+ */
+public record PositionCount(Position position, long count) {
+}
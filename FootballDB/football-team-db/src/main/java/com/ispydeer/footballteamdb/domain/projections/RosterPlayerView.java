@@ -0,0 +1,29 @@
+package com.ispydeer.footballteamdb.domain.projections;
+
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a player of a known club. The club columns are not selected,
+ * the club the roster was requested for is attached when converting to a DTO.
+ */
+public record RosterPlayerView(Long id,
+                               String firstName,
+                               String lastName,
+                               LocalDate birthDate,
+                               Position position,
+                               Long version) {
+
+    /**
+     * Converts the projection to a PlayerDto playing for the given club.
+     *
+     * @param club the club of the roster
+     * @return the corresponding PlayerDto
+     */
+    public PlayerDto toDto(ClubDto club) {
+        return new PlayerDto(id, firstName, lastName, birthDate, position, club, version);
+    }
+}
@@ -0,0 +1,156 @@
+package com.ispydeer.footballteamdb.jdbc;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only transactions to read replicas and everything else to the primary.
+ * Replicas take turns, and only replicas that passed their last health check are used: the connection must be
+ * valid and, when a lag query is configured, the replica must not be more than the allowed lag behind the primary.
+ * Without an available replica, reads fall back to the primary.
+ * <p>
+ * The read-only flag of a transaction is only known once it has begun, so this DataSource must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers choosing the target
+ * until the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private List<Replica> replicas;
+    private String lagQuery;
+    private long maxLagMillis;
+    private AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * Creates a routing DataSource. Replicas are considered unavailable until {@link #checkReplicas()} has run.
+     *
+     * @param primary      the DataSource of the primary
+     * @param replicas     the DataSources of the replicas
+     * @param lagQuery     a query returning how many seconds a replica is behind the primary, or null to skip the check
+     * @param maxLagMillis the lag above which a replica is no longer used
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, String lagQuery, long maxLagMillis) {
+        this.replicas = new ArrayList<>(replicas.size());
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicas.get(i));
+            this.replicas.add(replica);
+            targetDataSources.put(replica.key, replica.dataSource);
+        }
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<Replica> availableReplicas = replicas.stream().filter(replica -> replica.available).toList();
+        if (availableReplicas.isEmpty()) {
+            return PRIMARY;
+        }
+        return availableReplicas.get(Math.floorMod(next.getAndIncrement(), availableReplicas.size())).key;
+    }
+
+    /**
+     * Checks every replica and updates whether it may serve reads.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.available = isAvailable(replica.dataSource);
+        }
+    }
+
+    /**
+     * Runs {@link #checkReplicas()} right away and then at a fixed interval on a background thread,
+     * until this DataSource is closed.
+     *
+     * @param intervalMillis the time between two checks
+     */
+    public void startHealthChecks(long intervalMillis) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkReplicas();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of replicas that passed their last health check.
+     *
+     * @return the number of available replicas
+     */
+    public int getAvailableReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.available).count();
+    }
+
+    /**
+     * Stops the health checks and closes the primary and replica DataSources that can be closed.
+     *
+     * @throws Exception if a DataSource fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private boolean isAvailable(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(1)) {
+                return false;
+            }
+            if (lagQuery == null) {
+                return true;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                // an empty or null lag means the replica is not replicating, e.g. a promoted or unconfigured standby
+                return resultSet.next() && resultSet.getObject(1) != null
+                        && resultSet.getDouble(1) * 1000 <= maxLagMillis;
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
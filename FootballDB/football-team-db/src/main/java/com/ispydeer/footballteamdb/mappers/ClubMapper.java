@@ -0,0 +1,26 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+
+/**
+ * Maps football clubs between their entity and data transfer object representations.
+ */
+public interface ClubMapper {
+
+    /**
+     * Maps a club entity to a data transfer object.
+     *
+     * @param club the club entity
+     * @return the corresponding ClubDto
+     */
+    ClubDto toDto(Club club);
+
+    /**
+     * Maps a club data transfer object to an entity.
+     *
+     * @param clubDto the club data transfer object
+     * @return the corresponding Club entity
+     */
+    Club toEntity(ClubDto clubDto);
+}
@@ -0,0 +1,11 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Club mapper whose implementation is generated by MapStruct at compile time,
+ * so mapping is plain getter and setter calls without reflection.
+ */
+@Mapper
+public interface GeneratedClubMapper extends ClubMapper {
+}
@@ -0,0 +1,11 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import org.mapstruct.Mapper;
+
+/**
+ * Player mapper whose implementation is generated by MapStruct at compile time,
+ * so mapping is plain getter and setter calls without reflection.
+ */
+@Mapper(uses = GeneratedClubMapper.class)
+public interface GeneratedPlayerMapper extends PlayerMapper {
+}
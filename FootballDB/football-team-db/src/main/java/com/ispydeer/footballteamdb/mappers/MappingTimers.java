@@ -0,0 +1,19 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class MappingTimers {
+
+    static final String METRIC_NAME = "footballdb.mapping";
+
+    private MappingTimers() {
+    }
+
+    static Timer timer(MeterRegistry meterRegistry, String mapper, String operation, String strategy) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent mapping between entities and DTOs")
+                .tags("mapper", mapper, "operation", operation, "strategy", strategy)
+                .register(meterRegistry);
+    }
+}
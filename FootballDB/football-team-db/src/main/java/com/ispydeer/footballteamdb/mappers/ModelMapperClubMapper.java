@@ -0,0 +1,27 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import org.modelmapper.ModelMapper;
+
+/**
+ * Club mapper delegating to the reflective ModelMapper, kept as a fallback for the generated mapper.
+ */
+public class ModelMapperClubMapper implements ClubMapper {
+
+    private ModelMapper modelMapper;
+
+    public ModelMapperClubMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public ClubDto toDto(Club club) {
+        return modelMapper.map(club, ClubDto.class);
+    }
+
+    @Override
+    public Club toEntity(ClubDto clubDto) {
+        return modelMapper.map(clubDto, Club.class);
+    }
+}
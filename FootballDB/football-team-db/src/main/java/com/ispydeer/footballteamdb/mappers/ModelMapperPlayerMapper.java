@@ -0,0 +1,27 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import org.modelmapper.ModelMapper;
+
+/**
+ * Player mapper delegating to the reflective ModelMapper, kept as a fallback for the generated mapper.
+ */
+public class ModelMapperPlayerMapper implements PlayerMapper {
+
+    private ModelMapper modelMapper;
+
+    public ModelMapperPlayerMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public PlayerDto toDto(Player player) {
+        return modelMapper.map(player, PlayerDto.class);
+    }
+
+    @Override
+    public Player toEntity(PlayerDto playerDto) {
+        return modelMapper.map(playerDto, Player.class);
+    }
+}
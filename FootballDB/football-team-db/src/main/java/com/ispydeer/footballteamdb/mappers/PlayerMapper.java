@@ -0,0 +1,26 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+
+/**
+ * Maps football players between their entity and data transfer object representations.
+ */
+public interface PlayerMapper {
+
+    /**
+     * Maps a player entity, including its club, to a data transfer object.
+     *
+     * @param player the player entity
+     * @return the corresponding PlayerDto
+     */
+    PlayerDto toDto(Player player);
+
+    /**
+     * Maps a player data transfer object, including its club, to an entity.
+     *
+     * @param playerDto the player data transfer object
+     * @return the corresponding Player entity
+     */
+    Player toEntity(PlayerDto playerDto);
+}
@@ -0,0 +1,32 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Club mapper recording the time spent mapping in the {@code footballdb.mapping} timer.
+ */
+public class TimedClubMapper implements ClubMapper {
+
+    private ClubMapper delegate;
+    private Timer toDtoTimer;
+    private Timer toEntityTimer;
+
+    public TimedClubMapper(ClubMapper delegate, MeterRegistry meterRegistry, String strategy) {
+        this.delegate = delegate;
+        this.toDtoTimer = MappingTimers.timer(meterRegistry, "club", "toDto", strategy);
+        this.toEntityTimer = MappingTimers.timer(meterRegistry, "club", "toEntity", strategy);
+    }
+
+    @Override
+    public ClubDto toDto(Club club) {
+        return toDtoTimer.record(() -> delegate.toDto(club));
+    }
+
+    @Override
+    public Club toEntity(ClubDto clubDto) {
+        return toEntityTimer.record(() -> delegate.toEntity(clubDto));
+    }
+}
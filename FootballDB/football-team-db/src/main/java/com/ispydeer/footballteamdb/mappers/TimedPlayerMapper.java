@@ -0,0 +1,33 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Player mapper recording the time spent mapping in the {@code footballdb.mapping} timer,
+ * so it can be told apart from repository time in the service timings.
+ */
+public class TimedPlayerMapper implements PlayerMapper {
+
+    private PlayerMapper delegate;
+    private Timer toDtoTimer;
+    private Timer toEntityTimer;
+
+    public TimedPlayerMapper(PlayerMapper delegate, MeterRegistry meterRegistry, String strategy) {
+        this.delegate = delegate;
+        this.toDtoTimer = MappingTimers.timer(meterRegistry, "player", "toDto", strategy);
+        this.toEntityTimer = MappingTimers.timer(meterRegistry, "player", "toEntity", strategy);
+    }
+
+    @Override
+    public PlayerDto toDto(Player player) {
+        return toDtoTimer.record(() -> delegate.toDto(player));
+    }
+
+    @Override
+    public Player toEntity(PlayerDto playerDto) {
+        return toEntityTimer.record(() -> delegate.toEntity(playerDto));
+    }
+}
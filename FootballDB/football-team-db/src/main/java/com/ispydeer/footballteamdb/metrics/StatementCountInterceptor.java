@@ -0,0 +1,50 @@
+package com.ispydeer.footballteamdb.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of SQL statements run for every request in the {@code footballdb.hibernate.statements}
+ * distribution summary, tagged like {@code http.server.requests} with the HTTP method and the URI template.
+ * Statements run by asynchronous request processing, such as streamed exports, are not counted.
+ */
+public class StatementCountInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String METRIC_NAME = "footballdb.hibernate.statements";
+
+    private StatementCounter statementCounter;
+    private MeterRegistry meterRegistry;
+
+    public StatementCountInterceptor(StatementCounter statementCounter, MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = statementCounter.stop();
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements run per HTTP request")
+                .baseUnit("statements")
+                .tags("method", request.getMethod(), "uri", uri == null ? "UNKNOWN" : uri.toString())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
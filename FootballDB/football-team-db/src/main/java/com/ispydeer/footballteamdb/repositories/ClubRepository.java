@@ -1,12 +1,65 @@
 package com.ispydeer.footballteamdb.repositories;
 
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
 import com.ispydeer.footballteamdb.domain.entities.Club;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
-import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ClubRepository extends CrudRepository<Club, Long> {
 
+    String CLUB_DTO_SELECT = "select new com.ispydeer.footballteamdb.domain.dto.ClubDto("
+            + "c.id, c.name, c.shortName, c.foundingDate, c.totalTrophies, c.version) "
+            + "from Club c ";
+
+    /**
+     * Retrieves all clubs directly as ClubDto objects ordered by ID, without loading entities.
+     *
+     * @return a list of all clubs
+     */
+    @Query(CLUB_DTO_SELECT + "order by c.id")
+    List<ClubDto> findAllDtos();
+
+    /**
+     * Retrieves a page of clubs whose ID is greater than the given cursor directly as ClubDto objects, ordered by ID.
+     * The lookup is an index range scan on the primary key, so its cost does not depend on how deep the cursor is.
+     *
+     * @param id    the ID of the last club of the previous page
+     * @param limit the maximum number of clubs to return
+     * @return a list of at most {@code limit} clubs
+     */
+    @Query(CLUB_DTO_SELECT + "where c.id > :id order by c.id")
+    List<ClubDto> findDtosByIdGreaterThan(Long id, Limit limit);
+
+    /**
+     * Query space of {@link #addTotalTrophies}. It names no mapped table, so Hibernate evicts no second-level cache
+     * region after the update; callers evict the adjusted club themselves.
+     */
+    String TOTAL_TROPHIES_QUERY_SPACE = "club_total_trophies";
 
+    /**
+     * Adds a delta to a club's total trophies in a single UPDATE statement evaluated by the database, without
+     * loading the club, so concurrent adjustments never overwrite each other. The total does not drop below zero.
+     * The version is incremented as well, so entity tags read before the adjustment no longer match.
+     * <p>
+     * The statement is native with its own query space, as a JPQL bulk update would evict every club from the
+     * second-level cache. The adjusted club itself is not evicted.
+     *
+     * @param id    the ID of the club
+     * @param delta the number of trophies to add, negative to remove trophies
+     * @return the number of updated clubs, 0 if the club does not exist
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update club set total_trophies = case when coalesce(total_trophies, 0) + :delta < 0 then 0 "
+            + "else coalesce(total_trophies, 0) + :delta end, version = version + 1 where id = :id", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TOTAL_TROPHIES_QUERY_SPACE))
+    int addTotalTrophies(Long id, int delta);
 }
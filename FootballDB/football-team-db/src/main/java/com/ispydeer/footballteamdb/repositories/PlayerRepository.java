@@ -1,10 +1,123 @@
 package com.ispydeer.footballteamdb.repositories;
 
 import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import com.ispydeer.footballteamdb.domain.projections.PositionCount;
+import com.ispydeer.footballteamdb.domain.projections.RosterPlayerView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
-import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface PlayerRepository extends CrudRepository<Player, Long> {
+public interface PlayerRepository extends CrudRepository<Player, Long>, PlayerRepositoryCustom {
+
+    String PLAYER_VIEW_SELECT = "select new com.ispydeer.footballteamdb.domain.projections.PlayerView("
+            + "p.id, p.firstName, p.lastName, p.birthDate, p.position, p.version, "
+            + "c.id, c.name, c.shortName, c.foundingDate, c.totalTrophies, c.version) "
+            + "from Player p left join p.club c ";
+
+    /**
+     * Retrieves all players, fetching their clubs in the same query instead of one query per club.
+     *
+     * @return all players
+     */
+    @Override
+    @EntityGraph(attributePaths = "club")
+    Iterable<Player> findAll();
+
+    /**
+     * Retrieves a read-only view of a player and its club by the player's ID, without loading entities.
+     *
+     * @param id the ID of the player
+     * @return an Optional containing the player view if found, or empty if not
+     */
+    @Query(PLAYER_VIEW_SELECT + "where p.id = :id")
+    Optional<PlayerView> findViewById(Long id);
+
+    /**
+     * Retrieves read-only views of all players and their clubs, ordered by ID, without loading entities.
+     *
+     * @return a list of all player views
+     */
+    @Query(PLAYER_VIEW_SELECT + "order by p.id")
+    List<PlayerView> findAllViews();
+
+    /**
+     * Retrieves a page of read-only player views whose ID is greater than the given cursor, ordered by ID.
+     * The lookup is an index range scan on the primary key, so its cost does not depend on how deep the cursor is.
+     *
+     * @param id    the ID of the last player of the previous page
+     * @param limit the maximum number of players to return
+     * @return a list of at most {@code limit} player views
+     */
+    @Query(PLAYER_VIEW_SELECT + "where p.id > :id order by p.id")
+    List<PlayerView> findViewsByIdGreaterThan(Long id, Limit limit);
+
+    /**
+     * Streams read-only views of all players ordered by ID, fetching rows from the database in batches
+     * instead of loading the whole table. The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @return a stream of all player views
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PLAYER_VIEW_SELECT + "order by p.id")
+    Stream<PlayerView> streamAllViews();
+
+    /**
+     * Retrieves a page of the players of a club whose ID is greater than the given cursor, ordered by ID.
+     * Only player columns are selected, the club is not joined.
+     *
+     * @param clubId the ID of the club
+     * @param id     the ID of the last player of the previous page
+     * @param limit  the maximum number of players to return
+     * @return a list of at most {@code limit} roster views
+     */
+    @Query("select new com.ispydeer.footballteamdb.domain.projections.RosterPlayerView("
+            + "p.id, p.firstName, p.lastName, p.birthDate, p.position, p.version) "
+            + "from Player p where p.club.id = :clubId and p.id > :id order by p.id")
+    List<RosterPlayerView> findRosterByClubId(Long clubId, Long id, Limit limit);
+
+    /**
+     * Counts the players of a club per position. Positions without players are not returned.
+     *
+     * @param clubId the ID of the club
+     * @return the number of players for every position the club has players on
+     */
+    @Query("select new com.ispydeer.footballteamdb.domain.projections.PositionCount(p.position, count(p)) "
+            + "from Player p where p.club.id = :clubId group by p.position")
+    List<PositionCount> countByClubIdGroupByPosition(Long clubId);
+
+    /**
+     * Moves all players of a club to another club in a single UPDATE statement, without loading the players.
+     * The versions of the moved players are incremented, so entity tags read before the move no longer match.
+     *
+     * @param fromClubId the ID of the club the players leave
+     * @param toClubId   the ID of the club the players join, which must exist
+     * @return the number of moved players
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.club.id = :toClubId, p.version = p.version + 1 where p.club.id = :fromClubId")
+    int moveAllByClubId(Long fromClubId, Long toClubId);
+
+    /**
+     * Deletes the players with the given IDs in a single DELETE statement, without loading the players.
+     * IDs of players that do not exist are ignored.
+     *
+     * @param ids the IDs of the players to delete
+     * @return the number of deleted players
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Player p where p.id in :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
 }
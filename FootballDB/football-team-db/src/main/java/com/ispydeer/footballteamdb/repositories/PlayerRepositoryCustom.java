@@ -0,0 +1,24 @@
+package com.ispydeer.footballteamdb.repositories;
+
+import com.ispydeer.footballteamdb.domain.filters.PlayerFilter;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+
+import java.util.List;
+
+/**
+ * Player queries built at runtime, for criteria that are only known per request.
+ */
+public interface PlayerRepositoryCustom {
+
+    /**
+     * Retrieves a page of read-only player views matching the filter whose ID is greater than the given cursor,
+     * ordered by ID. Only the criteria present in the filter are added to the query, so each combination can use
+     * the index that matches it.
+     *
+     * @param filter  the criteria the players must match
+     * @param afterId the ID of the last player of the previous page
+     * @param limit   the maximum number of players to return
+     * @return a list of at most {@code limit} player views
+     */
+    List<PlayerView> findViews(PlayerFilter filter, long afterId, int limit);
+}
@@ -0,0 +1,60 @@
+package com.ispydeer.footballteamdb.repositories;
+
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.domain.filters.PlayerFilter;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class PlayerRepositoryCustomImpl implements PlayerRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PlayerView> findViews(PlayerFilter filter, long afterId, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PlayerView> query = builder.createQuery(PlayerView.class);
+        Root<Player> player = query.from(Player.class);
+        Join<Player, Club> club = player.join("club", JoinType.LEFT);
+        query.select(builder.construct(PlayerView.class,
+                player.get("id"), player.get("firstName"), player.get("lastName"), player.get("birthDate"),
+                player.get("position"), player.get("version"), club.get("id"), club.get("name"),
+                club.get("shortName"), club.get("foundingDate"), club.get("totalTrophies"), club.get("version")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (afterId > 0) {
+            // left out on the first page, so the planner is free to pick the index of the most selective filter
+            predicates.add(builder.greaterThan(player.get("id"), afterId));
+        }
+        if (filter.clubId() != null) {
+            // compares the player's foreign key column, so the filter does not depend on the join
+            predicates.add(builder.equal(player.get("club").get("id"), filter.clubId()));
+        }
+        if (filter.position() != null) {
+            predicates.add(builder.equal(player.get("position"), filter.position()));
+        }
+        if (filter.bornAfter() != null) {
+            predicates.add(builder.greaterThan(player.get("birthDate"), filter.bornAfter()));
+        }
+        if (filter.bornBefore() != null) {
+            predicates.add(builder.lessThan(player.get("birthDate"), filter.bornBefore()));
+        }
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(player.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,261 @@
+package com.ispydeer.footballteamdb.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of names supporting prefix and fuzzy (trigram) search.
+ * <p>
+ * Names are split into normalized tokens (lower case, without diacritics). A sorted map from token to document IDs
+ * answers prefix queries with a range scan, and a map from trigram to tokens finds tokens similar to a misspelled
+ * query token. Trigrams index the distinct tokens rather than the documents, so fuzzy lookups scale with the size of
+ * the vocabulary and not with the number of documents.
+ * <p>
+ * Reads are lock-free; writes are serialized so that posting sets and the vocabulary stay consistent.
+ */
+public class NameIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final int MAX_SIMILAR_TOKENS = 20;
+    private static final int MAX_FUZZY_CANDIDATES = 2000;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+
+    /**
+     * A search result.
+     *
+     * @param id    the ID of the matching document
+     * @param label the name the document was indexed with
+     * @param score 1.0 for prefix matches, the trigram similarity of the best fuzzy token otherwise
+     */
+    public record Match(long id, String label, double score) {
+    }
+
+    private record Document(String label, String[] tokens) {
+    }
+
+    /**
+     * Adds a document to the index or replaces its names if it is already indexed.
+     *
+     * @param id    the ID of the document
+     * @param label the name returned in search results
+     * @param names the names to index, null values are ignored
+     */
+    public synchronized void put(long id, String label, String... names) {
+        remove(id);
+        List<String> tokens = new ArrayList<>();
+        for (String name : names) {
+            if (name != null) {
+                tokens.addAll(List.of(tokenize(name)));
+            }
+        }
+        Document document = new Document(label, tokens.stream().distinct().toArray(String[]::new));
+        for (String token : document.tokens()) {
+            postings.computeIfAbsent(token, key -> {
+                for (String trigram : trigrams(key)) {
+                    trigrams.computeIfAbsent(trigram, t -> ConcurrentHashMap.newKeySet()).add(key);
+                }
+                return ConcurrentHashMap.newKeySet();
+            }).add(id);
+        }
+        documents.put(id, document);
+    }
+
+    /**
+     * Removes a document from the index. Tokens no longer used by any document are dropped from the vocabulary.
+     *
+     * @param id the ID of the document
+     */
+    public synchronized void remove(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String token : document.tokens()) {
+            Set<Long> ids = postings.get(token);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+                for (String trigram : trigrams(token)) {
+                    Set<String> tokens = trigrams.get(trigram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        trigrams.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all documents from the index.
+     */
+    public synchronized void clear() {
+        documents.clear();
+        postings.clear();
+        trigrams.clear();
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     *
+     * @return the number of documents
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Searches documents whose names match every token of the query. A query token matches a name token it is a
+     * prefix of, so the last token may be incomplete while the user is typing. If there are fewer prefix matches
+     * than requested, the result is filled with documents where the longest query token is replaced by similar tokens.
+     *
+     * @param query the search text
+     * @param limit the maximum number of results
+     * @return at most {@code limit} matches, prefix matches first, then fuzzy matches by decreasing similarity
+     */
+    public List<Match> search(String query, int limit) {
+        String[] queryTokens = tokenize(query);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String anchor = queryTokens[0];
+        for (String token : queryTokens) {
+            if (token.length() > anchor.length()) {
+                anchor = token;
+            }
+        }
+        Map<Long, Match> matches = new LinkedHashMap<>();
+        collectPrefixMatches(anchor, queryTokens, matches, limit);
+        if (matches.size() < limit) {
+            collectFuzzyMatches(anchor, queryTokens, matches, limit);
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    private void collectPrefixMatches(String anchor, String[] queryTokens, Map<Long, Match> matches, int limit) {
+        // shorter tokens sort first, so exact matches of the anchor come before longer completions
+        for (Set<Long> ids : postings.subMap(anchor, true, anchor + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                Document document = documents.get(id);
+                if (document != null && matchesAll(document, queryTokens, anchor)) {
+                    matches.putIfAbsent(id, new Match(id, document.label(), 1.0));
+                    if (matches.size() == limit) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void collectFuzzyMatches(String anchor, String[] queryTokens, Map<Long, Match> matches, int limit) {
+        // bounds the latency of multi-word queries whose other words rule out most documents of a common similar token
+        int candidates = 0;
+        for (Map.Entry<String, Double> similar : similarTokens(anchor)) {
+            Set<Long> ids = postings.get(similar.getKey());
+            if (ids == null) {
+                continue;
+            }
+            for (Long id : ids) {
+                if (++candidates > MAX_FUZZY_CANDIDATES) {
+                    return;
+                }
+                Document document = documents.get(id);
+                if (document != null && !matches.containsKey(id) && matchesAll(document, queryTokens, anchor)) {
+                    matches.put(id, new Match(id, document.label(), similar.getValue()));
+                    if (matches.size() == limit) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the vocabulary tokens sharing the most trigrams with the given token, by Jaccard similarity.
+     */
+    private List<Map.Entry<String, Double>> similarTokens(String token) {
+        Set<String> queryTrigrams = trigrams(token);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<String> tokens = trigrams.get(trigram);
+            if (tokens != null) {
+                for (String candidate : tokens) {
+                    shared.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        List<Map.Entry<String, Double>> similar = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            // a padded token has length + 1 trigrams, repeated trigrams are rare enough to ignore here
+            int candidateTrigrams = entry.getKey().length() + 1;
+            double similarity = (double) entry.getValue() / (queryTrigrams.size() + candidateTrigrams - entry.getValue());
+            if (similarity >= MIN_SIMILARITY) {
+                similar.add(Map.entry(entry.getKey(), similarity));
+            }
+        }
+        similar.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()));
+        return similar.size() > MAX_SIMILAR_TOKENS ? similar.subList(0, MAX_SIMILAR_TOKENS) : similar;
+    }
+
+    /**
+     * Checks that every query token other than the anchor is a prefix of one of the document's tokens.
+     * The anchor has already been matched by the lookup that found the document.
+     */
+    private static boolean matchesAll(Document document, String[] queryTokens, String anchor) {
+        boolean anchorSkipped = false;
+        for (String queryToken : queryTokens) {
+            if (!anchorSkipped && queryToken.equals(anchor)) {
+                anchorSkipped = true;
+                continue;
+            }
+            boolean found = false;
+            for (String token : document.tokens()) {
+                if (token.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String[] tokenize(String text) {
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.splitAsStream(normalized.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Returns the trigrams of a token padded with two leading blanks and one trailing blank, as in {@code pg_trgm},
+     * so a token of length n has n + 1 trigrams and matching beginnings weigh more.
+     */
+    static Set<String> trigrams(String token) {
+        String padded = "  " + token + " ";
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ispydeer.footballteamdb.search;
+
+/**
+ * A player or club matching a search query.
+ *
+ * @param type  whether the hit is a player or a club
+ * @param id    the ID of the player or club
+ * @param label the display name of the player or club
+ * @param score 1.0 for prefix matches, lower for fuzzy matches
+ */
+public record SearchHit(Type type, long id, String label, double score) {
+
+    public enum Type {
+        PLAYER, CLUB
+    }
+}
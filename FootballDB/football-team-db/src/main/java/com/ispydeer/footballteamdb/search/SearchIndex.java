@@ -0,0 +1,114 @@
+package com.ispydeer.footballteamdb.search;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import com.ispydeer.footballteamdb.repositories.ClubRepository;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process search index over player and club names. It is built from the database once the application has
+ * started, before it reports itself ready for traffic, and kept up to date by the services on every write.
+ */
+@Component
+public class SearchIndex {
+
+    private final NameIndex players = new NameIndex();
+    private final NameIndex clubs = new NameIndex();
+
+    private PlayerRepository playerRepository;
+    private ClubRepository clubRepository;
+
+    public SearchIndex(PlayerRepository playerRepository, ClubRepository clubRepository) {
+        this.playerRepository = playerRepository;
+        this.clubRepository = clubRepository;
+    }
+
+    /**
+     * Rebuilds the index from all players and clubs in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        players.clear();
+        clubs.clear();
+        clubRepository.findAllDtos().forEach(this::indexClub);
+        try (Stream<PlayerView> views = playerRepository.streamAllViews()) {
+            views.forEach(view -> indexPlayer(view.id(), view.firstName(), view.lastName()));
+        }
+    }
+
+    /**
+     * Adds a player to the index or updates its names, together with the player's club.
+     *
+     * @param playerDto the player, with its ID assigned
+     */
+    public void indexPlayer(PlayerDto playerDto) {
+        indexPlayer(playerDto.getId(), playerDto.getFirstName(), playerDto.getLastName());
+        if (playerDto.getClub() != null && playerDto.getClub().getId() != null) {
+            indexClub(playerDto.getClub());
+        }
+    }
+
+    private void indexPlayer(long playerId, String firstName, String lastName) {
+        String label = Stream.of(firstName, lastName).filter(Objects::nonNull).collect(Collectors.joining(" "));
+        players.put(playerId, label, firstName, lastName);
+    }
+
+    /**
+     * Removes a player from the index.
+     *
+     * @param playerId the ID of the player
+     */
+    public void removePlayer(long playerId) {
+        players.remove(playerId);
+    }
+
+    /**
+     * Adds a club to the index or updates its names.
+     *
+     * @param clubDto the club, with its ID assigned
+     */
+    public void indexClub(ClubDto clubDto) {
+        clubs.put(clubDto.getId(), clubDto.getName(), clubDto.getName(), clubDto.getShortName());
+    }
+
+    /**
+     * Removes a club from the index.
+     *
+     * @param clubId the ID of the club
+     */
+    public void removeClub(long clubId) {
+        clubs.remove(clubId);
+    }
+
+    /**
+     * Searches players and clubs by name.
+     *
+     * @param query the search text, matched as prefixes of the names' words and fuzzily if there are too few matches
+     * @param limit the maximum number of hits
+     * @return at most {@code limit} hits ordered by decreasing score
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<SearchHit> hits = new ArrayList<>();
+        for (NameIndex.Match match : players.search(query, limit)) {
+            hits.add(new SearchHit(SearchHit.Type.PLAYER, match.id(), match.label(), match.score()));
+        }
+        for (NameIndex.Match match : clubs.search(query, limit)) {
+            hits.add(new SearchHit(SearchHit.Type.CLUB, match.id(), match.label(), match.score()));
+        }
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+}
@@ -1,37 +1,52 @@
 package com.ispydeer.footballteamdb.services;
 
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
 import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
 import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.projections.PositionCount;
+import com.ispydeer.footballteamdb.mappers.ClubMapper;
 import com.ispydeer.footballteamdb.repositories.ClubRepository;
-import org.modelmapper.ModelMapper;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
+import com.ispydeer.footballteamdb.search.SearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service class for handling football club operations.
+ * Every public method is timed in {@code footballdb.service}, tagged with its class and method name.
  */
 @Service
+@Timed(value = "footballdb.service", histogram = true)
 public class ClubService {
 
     private ClubRepository clubRepository;
-    private ModelMapper modelMapper;
+    private ClubMapper clubMapper;
+    private PlayerRepository playerRepository;
+    private SearchIndex searchIndex;
+    private TransactionTemplate transactionTemplate;
+    private EntityManagerFactory entityManagerFactory;
 
-    public ClubService(ClubRepository clubRepository, ModelMapper modelMapper) {
+    public ClubService(ClubRepository clubRepository, ClubMapper clubMapper, PlayerRepository playerRepository,
+                       SearchIndex searchIndex, TransactionTemplate transactionTemplate,
+                       EntityManagerFactory entityManagerFactory) {
         this.clubRepository = clubRepository;
-        this.modelMapper = modelMapper;
-    }
-
-    /**
-     * Checks if a club exists by its ID.
-     *
-     * @param id the ID of the club
-     * @return true if the club exists, false otherwise
-     */
-    public boolean existsClubById(long id) {
-        return !clubRepository.existsById(id);
+        this.clubMapper = clubMapper;
+        this.playerRepository = playerRepository;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     /**
@@ -41,19 +56,21 @@ public class ClubService {
      * @return the created ClubDto
      */
     public ClubDto createClub(ClubDto clubDto) {
-        Club club = clubRepository.save(modelMapper.map(clubDto, Club.class));
-        return modelMapper.map(club, ClubDto.class);
+        Club club = clubRepository.save(clubMapper.toEntity(clubDto));
+        ClubDto createdClub = clubMapper.toDto(club);
+        searchIndex.indexClub(createdClub);
+        return createdClub;
     }
 
     /**
-     * Retrieves a club by its ID.
+     * Retrieves a club by its ID. Clubs are served from the second-level cache when present.
      *
      * @param clubId the ID of the club to retrieve
      * @return an Optional containing the ClubDto if found, or empty if not
      */
+    @Transactional(readOnly = true)
     public Optional<ClubDto> retrieveClubById(long clubId) {
-        Optional<Club> club = clubRepository.findById(clubId);
-        return club.map(value -> modelMapper.map(value, ClubDto.class));
+        return clubRepository.findById(clubId).map(clubMapper::toDto);
     }
 
     /**
@@ -61,12 +78,92 @@ public class ClubService {
      *
      * @return a list of ClubDto objects representing all clubs
      */
+    @Transactional(readOnly = true)
     public List<ClubDto> retrieveAllClubs() {
-        List<ClubDto> clubList = new ArrayList<>();
-        for (Club value : clubRepository.findAll()) {
-            clubList.add(modelMapper.map(value, ClubDto.class));
+        return clubRepository.findAllDtos();
+    }
+
+    /**
+     * Retrieves a page of clubs following the given cursor, ordered by ID.
+     *
+     * @param afterId the ID of the last club of the previous page, or 0 to start from the beginning
+     * @param limit   the maximum number of clubs to return
+     * @return a list of at most {@code limit} ClubDto objects
+     */
+    @Transactional(readOnly = true)
+    public List<ClubDto> retrieveClubsPage(long afterId, int limit) {
+        return clubRepository.findDtosByIdGreaterThan(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Retrieves a page of the players of a club following the given cursor, ordered by ID.
+     * The club is loaded once and attached to every player of the page instead of being resolved per player.
+     *
+     * @param clubId  the ID of the club
+     * @param afterId the ID of the last player of the previous page, or 0 to start from the beginning
+     * @param limit   the maximum number of players to return
+     * @return an Optional containing a list of at most {@code limit} PlayerDto objects, or empty if the club does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<PlayerDto>> retrieveClubPlayersPage(long clubId, long afterId, int limit) {
+        return clubRepository.findById(clubId).map(club -> {
+            ClubDto clubDto = clubMapper.toDto(club);
+            return playerRepository.findRosterByClubId(clubId, afterId, Limit.of(limit)).stream()
+                    .map(player -> player.toDto(clubDto))
+                    .toList();
+        });
+    }
+
+    /**
+     * Counts the players of a club per position. The counting is done by the database.
+     *
+     * @param clubId the ID of the club
+     * @return an Optional containing the number of players for every position, including positions without players,
+     * or empty if the club does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<Map<Position, Long>> retrievePlayerCountsByPosition(long clubId) {
+        if (!clubRepository.existsById(clubId)) {
+            return Optional.empty();
         }
-        return clubList;
+        Map<Position, Long> counts = new EnumMap<>(Position.class);
+        for (Position position : Position.values()) {
+            counts.put(position, 0L);
+        }
+        for (PositionCount positionCount : playerRepository.countByClubIdGroupByPosition(clubId)) {
+            counts.put(positionCount.position(), positionCount.count());
+        }
+        return Optional.of(counts);
+    }
+
+    /**
+     * Fully updates a club by its ID: every field is replaced by the given values.
+     *
+     * @param clubDto the data transfer object containing updated club details
+     * @param clubId  the ID of the club to update
+     * @return an Optional containing the updated ClubDto, or empty if the club does not exist
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the club was updated concurrently
+     */
+    public Optional<ClubDto> fullUpdateClub(ClubDto clubDto, long clubId) {
+        return fullUpdateClub(clubDto, clubId, null);
+    }
+
+    /**
+     * Fully updates a club by its ID if the club still has the entity tag sent in {@code If-Match}.
+     *
+     * @param clubDto the data transfer object containing updated club details
+     * @param clubId  the ID of the club to update
+     * @param ifMatch the value of the {@code If-Match} header, or null for an unconditional update
+     * @return an Optional containing the updated ClubDto, or empty if the club does not exist
+     * @throws PreconditionFailedException if the club's entity tag does not match
+     */
+    public Optional<ClubDto> fullUpdateClub(ClubDto clubDto, long clubId, String ifMatch) {
+        return updateClub(clubId, ifMatch, existingClub -> {
+            existingClub.setName(clubDto.getName());
+            existingClub.setShortName(clubDto.getShortName());
+            existingClub.setFoundingDate(clubDto.getFoundingDate());
+            existingClub.setTotalTrophies(clubDto.getTotalTrophies());
+        });
     }
 
     /**
@@ -74,17 +171,74 @@ public class ClubService {
      *
      * @param clubDto the data transfer object containing partial updates for the club
      * @param clubId  the ID of the club to update
-     * @return the updated ClubDto
-     * @throws RuntimeException if the club does not exist
+     * @return an Optional containing the updated ClubDto, or empty if the club does not exist
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the club was updated concurrently
+     */
+    public Optional<ClubDto> partialUpdateClub(ClubDto clubDto, long clubId) {
+        return partialUpdateClub(clubDto, clubId, null);
+    }
+
+    /**
+     * Partially updates a club by its ID if the club still has the entity tag sent in {@code If-Match}.
+     *
+     * @param clubDto the data transfer object containing partial updates for the club
+     * @param clubId  the ID of the club to update
+     * @param ifMatch the value of the {@code If-Match} header, or null for an unconditional update
+     * @return an Optional containing the updated ClubDto, or empty if the club does not exist
+     * @throws PreconditionFailedException if the club's entity tag does not match
+     */
+    public Optional<ClubDto> partialUpdateClub(ClubDto clubDto, long clubId, String ifMatch) {
+        return updateClub(clubId, ifMatch, existingClub -> applyPartialUpdate(existingClub, clubDto));
+    }
+
+    /**
+     * Reads a club, applies the update to the managed entity and writes it back in one transaction, so an update
+     * costs one read and one versioned write.
+     *
+     * @param clubId  the ID of the club to update
+     * @param ifMatch the value of the {@code If-Match} header, or null for an unconditional update
+     * @param update  the changes to apply to the club
+     * @return an Optional containing the updated ClubDto, or empty if the club does not exist
+     */
+    private Optional<ClubDto> updateClub(long clubId, String ifMatch, Consumer<Club> update) {
+        Optional<Club> updatedClub = ConditionalWrites.run(ifMatch, () -> transactionTemplate.execute(status ->
+                clubRepository.findById(clubId).map(existingClub -> {
+                    ConditionalWrites.checkIfMatch(ifMatch, EntityTags.of(existingClub));
+                    update.accept(existingClub);
+                    return existingClub;
+                })));
+        return updatedClub.map(club -> {
+            ClubDto clubDto = clubMapper.toDto(club);
+            searchIndex.indexClub(clubDto);
+            return clubDto;
+        });
+    }
+
+    /**
+     * Atomically adds a delta to a club's total trophies with one UPDATE statement, without reading the club.
+     * Only this club is evicted from the second-level cache, once the update has been committed.
+     *
+     * @param clubId the ID of the club
+     * @param delta  the number of trophies to add, negative to remove trophies
+     * @return true if the club exists and was updated, false otherwise
+     */
+    public boolean addTotalTrophies(long clubId, int delta) {
+        int updated = transactionTemplate.execute(status -> clubRepository.addTotalTrophies(clubId, delta));
+        entityManagerFactory.getCache().evict(Club.class, clubId);
+        return updated > 0;
+    }
+
+    /**
+     * Applies the non-null fields of a ClubDto to a club entity.
+     *
+     * @param club    the club entity to update
+     * @param clubDto the data transfer object containing partial updates for the club
      */
-    public ClubDto partialUpdateClub(ClubDto clubDto, long clubId) {
-        return clubRepository.findById(clubId).map(existingClub -> {
-            Optional.ofNullable(clubDto.getName()).ifPresent(existingClub::setName);
-            Optional.ofNullable(clubDto.getShortName()).ifPresent(existingClub::setShortName);
-            Optional.ofNullable(clubDto.getFoundingDate()).ifPresent(existingClub::setFoundingDate);
-            Optional.ofNullable(clubDto.getTotalTrophies()).ifPresent(existingClub::setTotalTrophies);
-            return modelMapper.map(clubRepository.save(existingClub), ClubDto.class);
-        }).orElseThrow(RuntimeException::new);
+    static void applyPartialUpdate(Club club, ClubDto clubDto) {
+        Optional.ofNullable(clubDto.getName()).ifPresent(club::setName);
+        Optional.ofNullable(clubDto.getShortName()).ifPresent(club::setShortName);
+        Optional.ofNullable(clubDto.getFoundingDate()).ifPresent(club::setFoundingDate);
+        Optional.ofNullable(clubDto.getTotalTrophies()).ifPresent(club::setTotalTrophies);
     }
 
     /**
@@ -94,5 +248,28 @@ public class ClubService {
      */
     public void deleteClubById(long clubId) {
         clubRepository.deleteById(clubId);
+        searchIndex.removeClub(clubId);
+    }
+
+    /**
+     * Deletes a club by its ID if the club still has the entity tag sent in {@code If-Match}.
+     *
+     * @param clubId  the ID of the club to delete
+     * @param ifMatch the value of the {@code If-Match} header, or null for an unconditional delete
+     * @throws PreconditionFailedException if the club does not exist or its entity tag does not match
+     */
+    public void deleteClubById(long clubId, String ifMatch) {
+        if (ifMatch == null) {
+            deleteClubById(clubId);
+            return;
+        }
+        ConditionalWrites.run(ifMatch, () -> transactionTemplate.execute(status -> {
+            Club club = clubRepository.findById(clubId)
+                    .orElseThrow(() -> new PreconditionFailedException("Club " + clubId + " does not exist"));
+            ConditionalWrites.checkIfMatch(ifMatch, EntityTags.of(club));
+            clubRepository.delete(club);
+            return club;
+        }));
+        searchIndex.removeClub(clubId);
     }
 }
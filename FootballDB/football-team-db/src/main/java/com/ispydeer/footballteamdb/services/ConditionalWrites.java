@@ -0,0 +1,51 @@
+package com.ispydeer.footballteamdb.services;
+
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.function.Supplier;
+
+/**
+ * Evaluation of {@code If-Match} preconditions for the services' writes.
+ * <p>
+ * The precondition is checked against the entity loaded in the write's transaction, and the {@code @Version}
+ * check of the write itself catches an update committed between that read and the flush, so the two together
+ * behave like an atomic compare-and-set without holding any lock.
+ */
+final class ConditionalWrites {
+
+    private ConditionalWrites() {
+    }
+
+    /**
+     * Checks an {@code If-Match} header against the current entity tag of a resource.
+     *
+     * @param ifMatch    the value of the {@code If-Match} header, or null if the request carries none
+     * @param currentTag the current entity tag of the resource
+     * @throws PreconditionFailedException if the header does not match
+     */
+    static void checkIfMatch(String ifMatch, String currentTag) {
+        if (!EntityTags.matches(ifMatch, currentTag)) {
+            throw new PreconditionFailedException("Current entity tag is " + currentTag);
+        }
+    }
+
+    /**
+     * Runs a write, reporting a concurrent update detected at flush time as a failed precondition
+     * when the request was conditional.
+     *
+     * @param ifMatch the value of the {@code If-Match} header, or null if the request carries none
+     * @param write   the write to run
+     * @return the result of the write
+     */
+    static <T> T run(String ifMatch, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (OptimisticLockingFailureException e) {
+            if (ifMatch == null) {
+                throw e;
+            }
+            throw new PreconditionFailedException("Resource was modified concurrently");
+        }
+    }
+}
@@ -1,37 +1,84 @@
 package com.ispydeer.footballteamdb.services;
 
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
 import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
 import com.ispydeer.footballteamdb.domain.entities.Club;
 import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.domain.filters.PlayerFilter;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import com.ispydeer.footballteamdb.mappers.ClubMapper;
+import com.ispydeer.footballteamdb.mappers.PlayerMapper;
+import com.ispydeer.footballteamdb.repositories.ClubRepository;
 import com.ispydeer.footballteamdb.repositories.PlayerRepository;
-import org.modelmapper.ModelMapper;
+import com.ispydeer.footballteamdb.search.SearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service class for handling football player operations.
+ * Every public method is timed in {@code footballdb.service}, tagged with its class and method name.
+ * <p>
+ * How a player write treats an existing club it refers to is chosen with {@code footballdb.players.club-association}:
+ * {@code reference} (default) assigns the club by its ID through a proxy reference, so the write only sets the
+ * player's {@code club_id}; {@code cascade} loads the club and applies the fields of the nested ClubDto to it,
+ * updating the club row whenever they differ.
  */
 @Service
+@Timed(value = "footballdb.service", histogram = true)
 public class PlayerService {
     private PlayerRepository playerRepository;
-    private ModelMapper modelMapper;
+    private ClubRepository clubRepository;
+    private PlayerMapper playerMapper;
+    private ClubMapper clubMapper;
+    private TransactionTemplate transactionTemplate;
+    private SearchIndex searchIndex;
+    private EntityManager entityManager;
+    private int batchChunkSize;
+    private boolean clubByReference;
 
-    public PlayerService(PlayerRepository playerRepository, ModelMapper modelMapper) {
+    public PlayerService(PlayerRepository playerRepository, ClubRepository clubRepository, PlayerMapper playerMapper,
+                         ClubMapper clubMapper, TransactionTemplate transactionTemplate, SearchIndex searchIndex,
+                         EntityManager entityManager,
+                         @Value("${footballdb.players.batch.chunk-size:500}") int batchChunkSize,
+                         @Value("${footballdb.players.club-association:reference}") String clubAssociation) {
         this.playerRepository = playerRepository;
-        this.modelMapper = modelMapper;
+        this.clubRepository = clubRepository;
+        this.playerMapper = playerMapper;
+        this.clubMapper = clubMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+        this.batchChunkSize = batchChunkSize;
+        this.clubByReference = "reference".equalsIgnoreCase(clubAssociation);
     }
 
     /**
-     * Checks if a player exists by their ID.
+     * Tells whether player writes also write the existing club they refer to, which is only the case in
+     * {@code cascade} mode.
      *
-     * @param id the ID of the player
-     * @return true if the player exists, false otherwise
+     * @return true if the nested club fields are applied to the club, false if the club is only assigned by its ID
      */
-    public boolean existsPlayerById(long id) {
-        return !playerRepository.existsById(id);
+    public boolean isClubWrittenWithPlayer() {
+        return !clubByReference;
     }
 
     /**
@@ -39,10 +86,70 @@ public class PlayerService {
      *
      * @param playerDto the data transfer object containing player details
      * @return the created PlayerDto
+     * @throws UnknownClubException if the player refers to a club by an ID that does not exist
      */
     public PlayerDto createPlayer(PlayerDto playerDto) {
-        Player player = playerRepository.save(modelMapper.map(playerDto, Player.class));
-        return modelMapper.map(player, PlayerDto.class);
+        Player player = transactionTemplate.execute(status ->
+                initializeClub(playerRepository.save(toNewPlayer(playerDto))));
+        PlayerDto createdPlayer = playerMapper.toDto(player);
+        searchIndex.indexPlayer(createdPlayer);
+        return createdPlayer;
+    }
+
+    /**
+     * Creates or updates many players at once. Players are written in chunks, each chunk in its own transaction,
+     * so the inserts of a chunk are sent to the database in JDBC batches and a failure only rolls back its chunk.
+     * Players with the ID of an existing player are fully updated, the existing players of a chunk being read with
+     * a single query; the others are created.
+     *
+     * @param playerDtos the data transfer objects containing player details, consumed lazily
+     * @return the created or updated PlayerDto objects, in input order
+     * @throws UnknownClubException if a player refers to a club by an ID that does not exist, rolling back its chunk
+     */
+    public List<PlayerDto> createPlayers(Iterator<PlayerDto> playerDtos) {
+        List<PlayerDto> playerList = new ArrayList<>();
+        List<PlayerDto> chunk = new ArrayList<>(batchChunkSize);
+        while (playerDtos.hasNext()) {
+            chunk.add(playerDtos.next());
+            if (chunk.size() == batchChunkSize) {
+                playerList.addAll(savePlayerChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            playerList.addAll(savePlayerChunk(chunk));
+        }
+        return playerList;
+    }
+
+    private List<PlayerDto> savePlayerChunk(List<PlayerDto> chunk) {
+        List<Player> savedPlayers = transactionTemplate.execute(status -> {
+            Map<Long, Player> existingPlayers = new HashMap<>();
+            playerRepository.findAllById(chunk.stream().map(PlayerDto::getId).filter(Objects::nonNull).toList())
+                    .forEach(player -> existingPlayers.put(player.getId(), player));
+            List<Player> players = new ArrayList<>(chunk.size());
+            for (PlayerDto playerDto : chunk) {
+                Player existingPlayer = playerDto.getId() == null ? null : existingPlayers.get(playerDto.getId());
+                if (existingPlayer != null) {
+                    applyFullUpdate(existingPlayer, playerDto);
+                    players.add(existingPlayer);
+                } else {
+                    Player player = toNewPlayer(playerDto);
+                    player.setId(null);
+                    players.add(playerRepository.save(player));
+                }
+            }
+            players.forEach(this::initializeClub);
+            return players;
+        });
+        // mapped and indexed once the chunk is committed, so versions are current and a rolled back chunk never reaches the index
+        List<PlayerDto> playerList = new ArrayList<>(savedPlayers.size());
+        for (Player player : savedPlayers) {
+            PlayerDto playerDto = playerMapper.toDto(player);
+            searchIndex.indexPlayer(playerDto);
+            playerList.add(playerDto);
+        }
+        return playerList;
     }
 
     /**
@@ -51,9 +158,9 @@ public class PlayerService {
      * @param playerId the ID of the player to retrieve
      * @return an Optional containing the PlayerDto if found, or empty if not
      */
+    @Transactional(readOnly = true)
     public Optional<PlayerDto> retrievePlayerById(long playerId) {
-        Optional<Player> player = playerRepository.findById(playerId);
-        return player.map(value -> modelMapper.map(value, PlayerDto.class));
+        return playerRepository.findViewById(playerId).map(PlayerView::toDto);
     }
 
     /**
@@ -61,31 +168,217 @@ public class PlayerService {
      *
      * @return a list of PlayerDto objects representing all players
      */
+    @Transactional(readOnly = true)
     public List<PlayerDto> retrieveAllPlayers() {
         List<PlayerDto> playerList = new ArrayList<>();
-        for (Player value : playerRepository.findAll()) {
-            playerList.add(modelMapper.map(value, PlayerDto.class));
+        for (PlayerView value : playerRepository.findAllViews()) {
+            playerList.add(value.toDto());
         }
         return playerList;
     }
 
+    /**
+     * Retrieves a page of players following the given cursor, ordered by ID.
+     *
+     * @param afterId the ID of the last player of the previous page, or 0 to start from the beginning
+     * @param limit   the maximum number of players to return
+     * @return a list of at most {@code limit} PlayerDto objects
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerDto> retrievePlayersPage(long afterId, int limit) {
+        List<PlayerDto> playerList = new ArrayList<>();
+        for (PlayerView value : playerRepository.findViewsByIdGreaterThan(afterId, Limit.of(limit))) {
+            playerList.add(value.toDto());
+        }
+        return playerList;
+    }
+
+    /**
+     * Retrieves a page of players matching the filter following the given cursor, ordered by ID.
+     *
+     * @param filter  the criteria the players must match
+     * @param afterId the ID of the last player of the previous page, or 0 to start from the beginning
+     * @param limit   the maximum number of players to return
+     * @return a list of at most {@code limit} PlayerDto objects
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerDto> retrievePlayersPage(PlayerFilter filter, long afterId, int limit) {
+        List<PlayerDto> playerList = new ArrayList<>();
+        for (PlayerView value : playerRepository.findViews(filter, afterId, limit)) {
+            playerList.add(value.toDto());
+        }
+        return playerList;
+    }
+
+    /**
+     * Exports all players one by one, ordered by ID.
+     * Players are streamed from the database as read-only projections that are not kept in the persistence context,
+     * so memory usage stays constant regardless of the number of players.
+     *
+     * @param consumer the consumer receiving each PlayerDto as soon as it is read
+     */
+    @Transactional(readOnly = true)
+    public void exportPlayers(Consumer<PlayerDto> consumer) {
+        try (Stream<PlayerView> players = playerRepository.streamAllViews()) {
+            players.forEach(player -> consumer.accept(player.toDto()));
+        }
+    }
+
+    /**
+     * Fully updates a player by their ID: every field, including the club, is replaced by the given values.
+     *
+     * @param playerDto the data transfer object containing updated player details
+     * @param playerId  the ID of the player to update
+     * @return an Optional containing the updated PlayerDto, or empty if the player does not exist
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the player was updated concurrently
+     * @throws UnknownClubException if the player refers to a club by an ID that does not exist
+     */
+    public Optional<PlayerDto> fullUpdatePlayer(PlayerDto playerDto, long playerId) {
+        return fullUpdatePlayer(playerDto, playerId, null);
+    }
+
+    /**
+     * Fully updates a player by their ID if the player still has the entity tag sent in {@code If-Match}.
+     *
+     * @param playerDto the data transfer object containing updated player details
+     * @param playerId  the ID of the player to update
+     * @param ifMatch   the value of the {@code If-Match} header, or null for an unconditional update
+     * @return an Optional containing the updated PlayerDto, or empty if the player does not exist
+     * @throws PreconditionFailedException if the player's entity tag does not match
+     * @throws UnknownClubException if the player refers to a club by an ID that does not exist
+     */
+    public Optional<PlayerDto> fullUpdatePlayer(PlayerDto playerDto, long playerId, String ifMatch) {
+        return updatePlayer(playerId, ifMatch, existingPlayer -> applyFullUpdate(existingPlayer, playerDto));
+    }
+
     /**
      * Partially updates a player's information by their ID.
      *
      * @param playerDto the data transfer object containing partial updates for the player
      * @param playerId  the ID of the player to update
-     * @return the updated PlayerDto
-     * @throws RuntimeException if the player does not exist
+     * @return an Optional containing the updated PlayerDto, or empty if the player does not exist
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the player was updated concurrently
+     * @throws UnknownClubException if the player refers to a club by an ID that does not exist
      */
-    public PlayerDto partialUpdatePlayer(PlayerDto playerDto, long playerId) {
-        return playerRepository.findById(playerId).map(existingPlayer -> {
+    public Optional<PlayerDto> partialUpdatePlayer(PlayerDto playerDto, long playerId) {
+        return partialUpdatePlayer(playerDto, playerId, null);
+    }
+
+    /**
+     * Partially updates a player by their ID if the player still has the entity tag sent in {@code If-Match}.
+     *
+     * @param playerDto the data transfer object containing partial updates for the player
+     * @param playerId  the ID of the player to update
+     * @param ifMatch   the value of the {@code If-Match} header, or null for an unconditional update
+     * @return an Optional containing the updated PlayerDto, or empty if the player does not exist
+     * @throws PreconditionFailedException if the player's entity tag does not match
+     * @throws UnknownClubException if the player refers to a club by an ID that does not exist
+     */
+    public Optional<PlayerDto> partialUpdatePlayer(PlayerDto playerDto, long playerId, String ifMatch) {
+        return updatePlayer(playerId, ifMatch, existingPlayer -> {
             Optional.ofNullable(playerDto.getFirstName()).ifPresent(existingPlayer::setFirstName);
             Optional.ofNullable(playerDto.getLastName()).ifPresent(existingPlayer::setLastName);
             Optional.ofNullable(playerDto.getBirthDate()).ifPresent(existingPlayer::setBirthDate);
             Optional.ofNullable(playerDto.getPosition()).ifPresent(existingPlayer::setPosition);
-            Optional.ofNullable(playerDto.getClub()).ifPresent(clubDto -> existingPlayer.setClub(modelMapper.map(clubDto, Club.class)));
-            return modelMapper.map(playerRepository.save(existingPlayer), PlayerDto.class);
-        }).orElseThrow(RuntimeException::new);
+            Optional.ofNullable(playerDto.getClub())
+                    .ifPresent(clubDto -> existingPlayer.setClub(resolveClub(existingPlayer.getClub(), clubDto)));
+        });
+    }
+
+    /**
+     * Reads a player, applies the update to the managed entity and writes it back in one transaction, so an update
+     * costs one read and one versioned write; the {@code @Version} check rejects the write if another transaction
+     * updated the player in between.
+     *
+     * @param playerId the ID of the player to update
+     * @param ifMatch  the value of the {@code If-Match} header, or null for an unconditional update
+     * @param update   the changes to apply to the player
+     * @return an Optional containing the updated PlayerDto, or empty if the player does not exist
+     */
+    private Optional<PlayerDto> updatePlayer(long playerId, String ifMatch, Consumer<Player> update) {
+        Optional<Player> updatedPlayer = ConditionalWrites.run(ifMatch, () -> transactionTemplate.execute(status ->
+                playerRepository.findById(playerId).map(existingPlayer -> {
+                    ConditionalWrites.checkIfMatch(ifMatch, EntityTags.of(existingPlayer));
+                    update.accept(existingPlayer);
+                    return initializeClub(existingPlayer);
+                })));
+        return updatedPlayer.map(player -> {
+            PlayerDto playerDto = playerMapper.toDto(player);
+            searchIndex.indexPlayer(playerDto);
+            return playerDto;
+        });
+    }
+
+    private void applyFullUpdate(Player player, PlayerDto playerDto) {
+        player.setFirstName(playerDto.getFirstName());
+        player.setLastName(playerDto.getLastName());
+        player.setBirthDate(playerDto.getBirthDate());
+        player.setPosition(playerDto.getPosition());
+        player.setClub(playerDto.getClub() == null ? null : resolveClub(player.getClub(), playerDto.getClub()));
+    }
+
+    /**
+     * Maps a player to be created, assigning its club as {@link #resolveClub} does for updates.
+     *
+     * @param playerDto the data transfer object containing player details
+     * @return the new player entity
+     */
+    private Player toNewPlayer(PlayerDto playerDto) {
+        Player player = playerMapper.toEntity(playerDto);
+        if (playerDto.getClub() != null) {
+            player.setClub(resolveClub(null, playerDto.getClub()));
+        }
+        return player;
+    }
+
+    /**
+     * Returns the club to assign to a player. A club without an ID is new and is persisted by cascade. A club with
+     * an ID is the existing club: in reference mode an uninitialized proxy, so the other fields of the ClubDto are
+     * ignored and the club is neither read nor written; otherwise the club with the non-null fields of the ClubDto
+     * applied. The player's current club is reused without a query.
+     *
+     * @param currentClub the player's current club, or null
+     * @param clubDto     the club sent along with the player
+     * @return the club entity to assign
+     * @throws UnknownClubException if the club has an ID but does not exist, in cascade mode
+     */
+    private Club resolveClub(Club currentClub, ClubDto clubDto) {
+        if (clubDto.getId() == null) {
+            return clubMapper.toEntity(clubDto);
+        }
+        boolean currentClubKept = currentClub != null && clubDto.getId().equals(currentClub.getId());
+        if (clubByReference) {
+            return currentClubKept ? currentClub : entityManager.getReference(Club.class, clubDto.getId());
+        }
+        Club club = currentClubKept
+                ? currentClub
+                : clubRepository.findById(clubDto.getId()).orElseThrow(() -> new UnknownClubException(clubDto.getId()));
+        ClubService.applyPartialUpdate(club, clubDto);
+        return club;
+    }
+
+    /**
+     * Loads a club assigned by reference while the transaction is still open, so the written player can be mapped
+     * with its club after the commit. This is a primary key read, served by the second-level cache when enabled,
+     * and the first point where a club assigned by reference turns out not to exist.
+     *
+     * @param player the written player
+     * @return the player
+     * @throws UnknownClubException if the player's club does not exist, rolling back the transaction
+     */
+    private Player initializeClub(Player player) {
+        Club club = player.getClub();
+        if (club == null) {
+            return player;
+        }
+        // the ID of an uninitialized proxy is read without loading it, a proxy that failed to load throws again
+        Long clubId = club.getId();
+        try {
+            Hibernate.initialize(club);
+        } catch (EntityNotFoundException e) {
+            throw new UnknownClubException(clubId);
+        }
+        return player;
     }
 
     /**
@@ -95,5 +388,68 @@ public class PlayerService {
      */
     public void deletePlayerById(long playerId) {
         playerRepository.deleteById(playerId);
+        searchIndex.removePlayer(playerId);
+    }
+
+    /**
+     * Deletes a player by their ID if the player still has the entity tag sent in {@code If-Match}.
+     *
+     * @param playerId the ID of the player to delete
+     * @param ifMatch  the value of the {@code If-Match} header, or null for an unconditional delete
+     * @throws PreconditionFailedException if the player does not exist or their entity tag does not match
+     */
+    public void deletePlayerById(long playerId, String ifMatch) {
+        if (ifMatch == null) {
+            deletePlayerById(playerId);
+            return;
+        }
+        ConditionalWrites.run(ifMatch, () -> transactionTemplate.execute(status -> {
+            Player player = playerRepository.findById(playerId)
+                    .orElseThrow(() -> new PreconditionFailedException("Player " + playerId + " does not exist"));
+            ConditionalWrites.checkIfMatch(ifMatch, EntityTags.of(player));
+            playerRepository.delete(player);
+            return player;
+        }));
+        searchIndex.removePlayer(playerId);
+    }
+
+    /**
+     * Moves all players of a club to another club with one UPDATE statement, without loading the players.
+     *
+     * @param fromClubId the ID of the club the players leave
+     * @param toClubId   the ID of the club the players join
+     * @return an Optional containing the number of moved players, 0 if both clubs are the same, or empty if the target
+     * club does not exist
+     */
+    @Transactional
+    public Optional<Integer> transferPlayers(long fromClubId, long toClubId) {
+        if (!clubRepository.existsById(toClubId)) {
+            return Optional.empty();
+        }
+        if (fromClubId == toClubId) {
+            // nothing moves, so the players keep their versions and the entity tags clients hold stay valid
+            return Optional.of(0);
+        }
+        return Optional.of(playerRepository.moveAllByClubId(fromClubId, toClubId));
+    }
+
+    /**
+     * Deletes many players by their IDs in one transaction, with one DELETE statement per chunk of IDs
+     * and without loading the players. IDs of players that do not exist are ignored, as are null IDs.
+     *
+     * @param playerIds the IDs of the players to delete
+     * @return the number of deleted players
+     */
+    public int deletePlayersByIds(Collection<Long> playerIds) {
+        List<Long> ids = playerIds.stream().filter(Objects::nonNull).distinct().toList();
+        int deleted = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (int from = 0; from < ids.size(); from += batchChunkSize) {
+                count += playerRepository.deleteAllByIdIn(ids.subList(from, Math.min(from + batchChunkSize, ids.size())));
+            }
+            return count;
+        });
+        ids.forEach(searchIndex::removePlayer);
+        return deleted;
     }
 }
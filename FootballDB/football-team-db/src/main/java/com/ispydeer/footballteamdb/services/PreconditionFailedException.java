@@ -0,0 +1,12 @@
+package com.ispydeer.footballteamdb.services;
+
+/**
+ * Thrown when a conditional write is rejected because the resource no longer has the entity tag
+ * the client sent in its {@code If-Match} header.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
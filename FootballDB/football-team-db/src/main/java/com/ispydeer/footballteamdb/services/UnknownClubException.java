@@ -0,0 +1,11 @@
+package com.ispydeer.footballteamdb.services;
+
+/**
+ * Thrown when a player write refers to an existing club by an ID that no club has.
+ */
+public class UnknownClubException extends RuntimeException {
+
+    public UnknownClubException(long clubId) {
+        super("Club " + clubId + " does not exist");
+    }
+}
@@ -0,0 +1,58 @@
+-- Club and player tables of the JPA entities, with the id sequences of their pooled-lo generators.
+--
+-- The increment of each sequence must equal the allocation size configured under
+-- spring.jpa.properties.footballdb.id.allocation-size.<sequence_name>, otherwise Hibernate refuses to start;
+-- changing an allocation size needs a new migration altering the increment.
+--
+-- Every statement is idempotent so that a database created by the former ddl-auto=update is adopted
+-- (spring.flyway.baseline-on-migrate with baseline version 0): missing objects are created and the
+-- sequences are aligned. Switching from the pooled optimizer to pooled-lo is safe on a live database,
+-- pooled-lo treats the next sequence value as the lower bound of a fresh block, so no id is reused.
+
+CREATE SEQUENCE IF NOT EXISTS club_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS player_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE club_seq INCREMENT BY 50;
+ALTER SEQUENCE player_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS club (
+    id             BIGINT NOT NULL,
+    name           VARCHAR(255),
+    short_name     VARCHAR(255),
+    founding_date  DATE,
+    total_trophies INTEGER,
+    version        BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_club PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS player (
+    id         BIGINT NOT NULL,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    birth_date DATE,
+    position   VARCHAR(255),
+    club_id    BIGINT,
+    version    BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_player PRIMARY KEY (id),
+    CONSTRAINT fk_player_club FOREIGN KEY (club_id) REFERENCES club (id),
+    CONSTRAINT ck_player_position CHECK (position IN ('GOALKEEPER', 'DEFENDER', 'MIDFIELDER', 'STRIKER', 'WINGER'))
+);
+
+-- tables created before optimistic locking have no version column, later ddl-auto=update runs added it as nullable
+ALTER TABLE club ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE player ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+UPDATE club SET version = 0 WHERE version IS NULL;
+UPDATE player SET version = 0 WHERE version IS NULL;
+ALTER TABLE club ALTER COLUMN version SET DEFAULT 0;
+ALTER TABLE club ALTER COLUMN version SET NOT NULL;
+ALTER TABLE player ALTER COLUMN version SET DEFAULT 0;
+ALTER TABLE player ALTER COLUMN version SET NOT NULL;
+
+-- players of a club in id order (roster pages, transfers, the club filter) and the foreign key lookups
+-- when a club is deleted
+CREATE INDEX IF NOT EXISTS idx_player_club ON player (club_id, id);
+-- per-position counts of a club and the club and position filter
+CREATE INDEX IF NOT EXISTS idx_player_club_position ON player (club_id, position, id);
+-- the position filter across all clubs
+CREATE INDEX IF NOT EXISTS idx_player_position ON player (position, id);
+-- the bornAfter / bornBefore range filter
+CREATE INDEX IF NOT EXISTS idx_player_birth_date ON player (birth_date);
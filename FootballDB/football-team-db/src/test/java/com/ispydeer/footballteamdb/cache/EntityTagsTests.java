@@ -0,0 +1,51 @@
+package com.ispydeer.footballteamdb.cache;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityTagsTests {
+
+    @Test
+    public void testThatPlayerTagCombinesPlayerAndClubVersions() {
+        PlayerDto player = PlayerDto.builder().version(3L).club(ClubDto.builder().version(7L).build()).build();
+
+        assertThat(EntityTags.of(player)).isEqualTo("\"3.7\"");
+        assertThat(EntityTags.of(PlayerDto.builder().version(3L).build())).isEqualTo("\"3\"");
+        assertThat(EntityTags.of(ClubDto.builder().version(7L).build())).isEqualTo("\"7\"");
+    }
+
+    @Test
+    public void testThatMissingHeaderAndWildcardMatch() {
+        assertThat(EntityTags.matches(null, "\"1\"")).isTrue();
+        assertThat(EntityTags.matches("*", "\"1\"")).isTrue();
+    }
+
+    @Test
+    public void testThatAnyListedTagMatches() {
+        assertThat(EntityTags.matches("\"0\", \"1\"", "\"1\"")).isTrue();
+        assertThat(EntityTags.matches("\"0\", \"2\"", "\"1\"")).isFalse();
+    }
+
+    @Test
+    public void testThatWeakTagsDoNotMatch() {
+        assertThat(EntityTags.matches("W/\"1\"", "\"1\"")).isFalse();
+    }
+
+    @Test
+    public void testThatBinaryFormatIsAppendedToTheVersions() {
+        assertThat(EntityTags.forFormat("\"3.7\"", MediaType.APPLICATION_CBOR)).isEqualTo("\"3.7-cbor\"");
+        assertThat(EntityTags.forFormat("\"7\"", MediaType.valueOf("application/x-protobuf"))).isEqualTo("\"7-x-protobuf\"");
+    }
+
+    @Test
+    public void testThatTagsOfAnyFormatMatchTheirVersions() {
+        assertThat(EntityTags.matches("\"3.7-x-protobuf\"", "\"3.7\"")).isTrue();
+        assertThat(EntityTags.matches("\"3.7\"", "\"3.7-cbor\"")).isTrue();
+        assertThat(EntityTags.matches("\"3.8-cbor\"", "\"3.7\"")).isFalse();
+        assertThat(EntityTags.matches("W/\"3.7-cbor\"", "\"3.7\"")).isFalse();
+    }
+}
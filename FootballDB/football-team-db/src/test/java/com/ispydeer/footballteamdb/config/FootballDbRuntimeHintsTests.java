@@ -0,0 +1,44 @@
+package com.ispydeer.footballteamdb.config;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.domain.generators.PooledLoSequenceGenerator;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FootballDbRuntimeHintsTests {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    public FootballDbRuntimeHintsTests() {
+        new FootballDbRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void testThatQueryProjectionsCanBeConstructed() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(PlayerView.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ClubDto.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PooledLoSequenceGenerator.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    public void testThatModelMapperTypesCanBeCopiedReflectively() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Player.class.getMethod("getFirstName"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PlayerDto.class.getMethod("setFirstName", String.class)))
+                .accepts(hints);
+    }
+
+    @Test
+    public void testThatCacheConfigurationIsIncluded() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("application.conf")).accepts(hints);
+    }
+}
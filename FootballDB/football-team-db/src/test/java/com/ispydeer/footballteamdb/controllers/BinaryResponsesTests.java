@@ -0,0 +1,24 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import com.ispydeer.footballteamdb.converters.BinaryMediaTypes;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BinaryResponsesTests {
+
+    @Test
+    public void testThatAcceptedFormatWithHighestQualityIsSelected() {
+        assertThat(BinaryResponses.select("application/x-protobuf")).isEqualTo(BinaryMediaTypes.PROTOBUF);
+        assertThat(BinaryResponses.select("application/cbor;q=0.5, application/x-jackson-smile")).isEqualTo(BinaryMediaTypes.SMILE);
+        assertThat(BinaryResponses.select("application/json, application/x-protobuf;q=0.9")).isEqualTo(BinaryMediaTypes.PROTOBUF);
+    }
+
+    @Test
+    public void testThatSpecificTypesArePreferredOverWildcards() {
+        assertThat(BinaryResponses.select("*/*, application/x-protobuf")).isEqualTo(BinaryMediaTypes.PROTOBUF);
+        assertThat(BinaryResponses.select("application/x-protobuf;q=0, */*")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(BinaryResponses.select(null)).isEqualTo(MediaType.APPLICATION_CBOR);
+    }
+}
@@ -2,9 +2,15 @@ package com.ispydeer.footballteamdb.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.cache.ResponseCache;
+import com.ispydeer.footballteamdb.converters.BinaryMediaTypes;
+import com.ispydeer.footballteamdb.converters.ProtobufCodec;
 import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
 import com.ispydeer.footballteamdb.domain.entities.Club;
 import com.ispydeer.footballteamdb.services.ClubService;
+import com.ispydeer.footballteamdb.services.PlayerService;
 import com.ispydeer.footballteamdb.utilities.TestDataCreator;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -12,13 +18,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -28,9 +42,15 @@ public class ClubControllerIntegrationTests {
     @Autowired
     private ClubService clubService;
 
+    @Autowired
+    private PlayerService playerService;
+
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
@@ -80,6 +100,150 @@ public class ClubControllerIntegrationTests {
         ).andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    @Test
+    public void testThatGetClubReturnsHttpStatus304WhenETagMatches() throws Exception {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/clubs/" + id)
+                                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                ).andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    public void testThatPartialUpdateClubWithMatchingIfMatchReturnsNewETag() throws Exception {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newEtag = mockMvc.perform(
+                        MockMvcRequestBuilders.patch("/clubs/" + id)
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"totalTrophies\":101}")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, newEtag))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalTrophies").value(101));
+    }
+
+    @Test
+    public void testThatPartialUpdateClubWithStaleIfMatchReturnsHttpStatus412() throws Exception {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/clubs/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"totalTrophies\":101}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/clubs/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"totalTrophies\":1}")
+        ).andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalTrophies").value(101));
+    }
+
+    @Test
+    public void testThatDeleteClubWithStaleIfMatchReturnsHttpStatus412() throws Exception {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/clubs/" + id)
+                        .header(HttpHeaders.IF_MATCH, "\"99\"")
+        ).andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void testThatIncrementAndDecrementTrophiesReturnHttpStatus204() throws Exception {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/clubs/" + id + "/trophies/increment?by=3"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        mockMvc.perform(MockMvcRequestBuilders.post("/clubs/" + id + "/trophies/decrement"))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalTrophies").value(102));
+    }
+
+    @Test
+    public void testThatNonPositiveTrophyAdjustmentsReturnHttpStatus400() throws Exception {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/clubs/" + id + "/trophies/increment?by=0"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.post("/clubs/" + id + "/trophies/increment?by=-5"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.post("/clubs/" + id + "/trophies/decrement?by=-5"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.post("/clubs/" + id + "/trophies/decrement?by=" + Integer.MIN_VALUE))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalTrophies").value(100));
+    }
+
+    @Test
+    public void testThatIncrementTrophiesReturnsHttpStatus404WhenClubDoesntExist() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/clubs/99/trophies/increment"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatPartialUpdateClubInvalidatesCachedResponsesOfItsPlayersOnly() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        PlayerDto playerDtoCR = playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDtoLM.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDtoCR.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/clubs/" + playerDtoLM.getClub().getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Barca\"}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(responseCache.player(playerDtoLM.getId(), playerId -> Optional.empty())).isEmpty();
+        assertThat(responseCache.player(playerDtoCR.getId(), playerId -> Optional.empty())).isPresent();
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDtoLM.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.club.name").value("Barca"));
+    }
+
+    @Test
+    public void testThatDeleteClubInvalidatesCachedResponse() throws Exception {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + id))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
     @Test
     public void testThatListsClubsReturnsHttpStatus200AndListOfClubs() throws Exception {
         ClubDto clubDtoBAR = TestDataCreator.createClubDtoBarca();
@@ -96,6 +260,56 @@ public class ClubControllerIntegrationTests {
                         Matchers.containsInAnyOrder(clubDtoBAR.getName(), clubDtoRM.getName())));
     }
 
+    @Test
+    public void testThatListsClubsOmitsNextLinkOnLastPage() throws Exception {
+        ClubDto clubDtoBAR = TestDataCreator.createClubDtoBarca();
+        clubService.createClub(clubDtoBAR);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/clubs?limit=2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist("Link"));
+    }
+
+    @Test
+    public void testThatListsClubPlayersReturnsHttpStatus200AndPlayersOfClub() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/clubs/" + playerDtoLM.getClub().getId() + "/players")
+                                .param("limit", "1")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(playerDtoLM.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].club.name").value(playerDtoLM.getClub().getName()))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LINK,
+                        Matchers.containsString("after=" + playerDtoLM.getId())));
+    }
+
+    @Test
+    public void testThatClubPlayersSummaryReturnsHttpStatus200AndCountsPerPosition() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/clubs/" + playerDtoLM.getClub().getId() + "/players/summary")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.MIDFIELDER").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.STRIKER").value(0));
+    }
+
+    @Test
+    public void testThatClubPlayersReturnHttpStatus404WhenClubDoesntExist() throws Exception {
+        final int ID_OF_NOT_EXISTING_CLUB = 99;
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + ID_OF_NOT_EXISTING_CLUB + "/players"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + ID_OF_NOT_EXISTING_CLUB + "/players/summary"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
     @Test
     public void testThatFullUpdateClubReturnsHttpStatus200WhenClubAlreadyExistsAndUpdatedClub() throws Exception {
         ClubDto clubDtoBAR = TestDataCreator.createClubDtoBarca();
@@ -195,4 +409,44 @@ public class ClubControllerIntegrationTests {
                         .contentType(MediaType.APPLICATION_JSON)
         ).andExpect(MockMvcResultMatchers.status().isNoContent());
     }
+
+    @Test
+    public void testThatGetClubReturnsProtobufWhenAcceptedAndHttpStatus304WhenETagMatches() throws Exception {
+        ClubDto clubDto = clubService.createClub(TestDataCreator.createClubDtoBarca());
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/clubs/" + clubDto.getId())
+                                .accept(BinaryMediaTypes.PROTOBUF)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(BinaryMediaTypes.PROTOBUF))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG,
+                        EntityTags.forFormat(EntityTags.of(clubDto), BinaryMediaTypes.PROTOBUF)))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn();
+
+        ClubDto received = ProtobufCodec.readClub(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(received).usingRecursiveComparison().ignoringFields("version").isEqualTo(clubDto);
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/clubs/" + clubDto.getId())
+                                .accept(BinaryMediaTypes.PROTOBUF)
+                                .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG))
+                ).andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    public void testThatGetClubsReturnsProtobufWhenAccepted() throws Exception {
+        ClubDto barca = clubService.createClub(TestDataCreator.createClubDtoBarca());
+        ClubDto realMadrid = clubService.createClub(TestDataCreator.createClubDtoRealMadrid());
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/clubs")
+                                .accept(BinaryMediaTypes.PROTOBUF)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+
+        List<ClubDto> received = ProtobufCodec.readClubs(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(received).usingRecursiveFieldByFieldElementComparatorIgnoringFields("version")
+                .containsExactly(barca, realMadrid);
+    }
 }
@@ -0,0 +1,102 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import com.ispydeer.footballteamdb.cache.ResponseCache;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "footballdb.players.club-association=cascade")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class PlayerControllerCascadeAssociationIntegrationTests {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Test
+    public void testThatPartialUpdatePlayerInvalidatesCachedResponsesEmbeddingItsClub() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        PlayerDto teammateDto = TestDataCreator.createPlayerDtoCR();
+        teammateDto.setClub(playerDtoLM.getClub());
+        Long teammateId = playerService.createPlayer(teammateDto).getId();
+        Long otherId = playerService.createPlayer(TestDataCreator.createPlayerDtoCR()).getId();
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + teammateId))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + otherId))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + playerDtoLM.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"club\":{\"id\":" + playerDtoLM.getClub().getId() + ",\"name\":\"Barca\"}}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(responseCache.player(teammateId, playerId -> Optional.empty())).isEmpty();
+        assertThat(responseCache.player(otherId, playerId -> Optional.empty())).isPresent();
+    }
+
+    @Test
+    public void testThatPartialUpdatePlayerToOtherClubInvalidatesItsCachedResponse() throws Exception {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        long otherClubId = playerService.createPlayer(TestDataCreator.createPlayerDtoCR()).getClub().getId();
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + playerDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"club\":{\"id\":" + otherClubId + ",\"name\":\"Real\"}}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.club.id").value(otherClubId))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.club.name").value("Real"));
+    }
+
+    @Test
+    public void testThatCreatePlayerOfNotExistingClubReturnsHttpStatus422() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/players")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Lionel\",\"club\":{\"id\":999,\"name\":\"Barca\"}}")
+        ).andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+
+        assertThat(playerService.retrieveAllPlayers()).isEmpty();
+    }
+
+    @Test
+    public void testThatPartialUpdatePlayerToNotExistingClubReturnsHttpStatus422() throws Exception {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + playerDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"club\":{\"id\":999,\"name\":\"Barca\"}}")
+        ).andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.club.id").value(playerDto.getClub().getId()));
+    }
+}
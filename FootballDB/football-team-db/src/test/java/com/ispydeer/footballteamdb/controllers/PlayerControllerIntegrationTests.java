@@ -1,7 +1,14 @@
 package com.ispydeer.footballteamdb.controllers;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.cache.ResponseCache;
+import com.ispydeer.footballteamdb.converters.BinaryMediaTypes;
+import com.ispydeer.footballteamdb.converters.ProtobufCodec;
 import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
 import com.ispydeer.footballteamdb.domain.entities.Player;
 import com.ispydeer.footballteamdb.services.PlayerService;
@@ -12,13 +19,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -31,6 +47,9 @@ public class PlayerControllerIntegrationTests {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
@@ -52,6 +71,54 @@ public class PlayerControllerIntegrationTests {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.birthDate").value(playerDtoLM.getBirthDate().toString()));
     }
 
+    @Test
+    public void testThatCreatePlayersInBatchReturnsHttpStatus201AndSavedPlayers() throws Exception {
+        List<PlayerDto> playerDtos = List.of(TestDataCreator.createPlayerDtoLM(), TestDataCreator.createPlayerDtoCR(),
+                TestDataCreator.createPlayerDtoLM());
+
+        String json = objectMapper.writeValueAsString(playerDtos);
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/players/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json)
+                ).andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id", Matchers.everyItem(Matchers.notNullValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].firstName", Matchers.contains(
+                        playerDtos.get(0).getFirstName(), playerDtos.get(1).getFirstName(), playerDtos.get(2).getFirstName())));
+
+        assertThat(playerService.retrieveAllPlayers()).hasSize(3);
+    }
+
+    @Test
+    public void testThatCreatePlayersInBatchAcceptsNewlineDelimitedJson() throws Exception {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        PlayerDto playerDtoCR = TestDataCreator.createPlayerDtoCR();
+
+        String ndjson = objectMapper.writeValueAsString(playerDtoLM) + "\n" + objectMapper.writeValueAsString(playerDtoCR) + "\n";
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/players/batch")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(ndjson)
+                ).andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].lastName",
+                        Matchers.contains(playerDtoLM.getLastName(), playerDtoCR.getLastName())));
+    }
+
+    @Test
+    public void testThatCreatePlayerOfNotExistingClubReturnsHttpStatus422() throws Exception {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        playerDtoLM.getClub().setId(999L);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/players")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(playerDtoLM))
+        ).andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+
+        assertThat(playerService.retrieveAllPlayers()).isEmpty();
+    }
+
     @Test
     public void testThatGetPlayerSuccessfullyReturnsHttpStatus200AndFoundClub() throws Exception {
         PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
@@ -80,6 +147,149 @@ public class PlayerControllerIntegrationTests {
         ).andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    @Test
+    public void testThatGetPlayerReturnsHttpStatus304WhenETagMatches() throws Exception {
+        Long id = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players/" + id)
+                                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                ).andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    public void testThatPartialUpdatePlayerInvalidatesCachedResponse() throws Exception {
+        Long id = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Updated\"}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players/" + id)
+                                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value("Updated"));
+    }
+
+    @Test
+    public void testThatFullUpdatePlayerWithMatchingIfMatchReturnsHttpStatus200() throws Exception {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        playerDto.setFirstName("Updated");
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put("/players/" + playerDto.getId())
+                                .header(HttpHeaders.IF_MATCH, etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(playerDto))
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value("Updated"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    public void testThatPartialUpdatePlayerWithStaleIfMatchReturnsHttpStatus412() throws Exception {
+        Long id = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Concurrent\"}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Updated\"}")
+        ).andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value("Concurrent"));
+    }
+
+    @Test
+    public void testThatPlayerETagChangesWhenClubIsUpdated() throws Exception {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/clubs/" + playerDto.getClub().getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Barca\"}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/players/" + playerDto.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+        ).andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testThatDeletePlayerWithMatchingIfMatchReturnsHttpStatus204() throws Exception {
+        Long id = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/players/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+        ).andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatPartialUpdateClubInvalidatesCachedPlayerResponse() throws Exception {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/clubs/" + playerDto.getClub().getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Barca\"}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.club.name").value("Barca"));
+    }
+
+    @Test
+    public void testThatPartialUpdatePlayerKeepsCachedResponsesOfOtherPlayers() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        Long id = playerService.createPlayer(TestDataCreator.createPlayerDtoCR()).getId();
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + playerDtoLM.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"club\":{\"id\":" + playerDtoLM.getClub().getId() + "}}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        // the club is only assigned by its ID, so it is not written and the player responses embedding it stay cached
+        assertThat(responseCache.player(id, playerId -> Optional.empty())).isPresent();
+    }
+
     @Test
     public void testThatListsPlayersReturnsHttpStatus200AndListOfPlayers() throws Exception {
         PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
@@ -96,6 +306,76 @@ public class PlayerControllerIntegrationTests {
                         Matchers.containsInAnyOrder(playerDtoLM.getFirstName(), playerDtoCR.getFirstName())));
     }
 
+    @Test
+    public void testThatListsPlayersReturnsPagesLinkedByCursor() throws Exception {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        Long firstId = playerService.createPlayer(playerDtoLM).getId();
+
+        PlayerDto playerDtoCR = TestDataCreator.createPlayerDtoCR();
+        playerService.createPlayer(playerDtoCR);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players?limit=1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName").value(playerDtoLM.getFirstName()))
+                .andExpect(MockMvcResultMatchers.header().string("Link", Matchers.containsString("after=" + firstId)));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players?limit=1&after=" + firstId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName").value(playerDtoCR.getFirstName()));
+    }
+
+    @Test
+    public void testThatListsPlayersFiltersByClubAndPosition() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        PlayerDto playerDtoCR = playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players")
+                                .param("clubId", playerDtoCR.getClub().getId().toString())
+                                .param("position", "STRIKER")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(playerDtoCR.getId()));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players")
+                                .param("bornAfter", "1986-01-01")
+                                .param("bornBefore", "1988-01-01")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(playerDtoLM.getId()));
+    }
+
+    @Test
+    public void testThatExportPlayersStreamsOnePlayerPerLine() throws Exception {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        playerService.createPlayer(playerDtoLM);
+
+        PlayerDto playerDtoCR = TestDataCreator.createPlayerDtoCR();
+        playerService.createPlayer(playerDtoCR);
+
+        MvcResult mvcResult = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players/export")
+                                .accept(MediaType.APPLICATION_NDJSON)
+                ).andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], PlayerDto.class).getFirstName()).isEqualTo(playerDtoLM.getFirstName());
+        assertThat(objectMapper.readValue(lines[1], PlayerDto.class).getFirstName()).isEqualTo(playerDtoCR.getFirstName());
+    }
+
     @Test
     public void testThatFullUpdatePlayerReturnsHttpStatus200WhenPlayerAlreadyExistsAndUpdatedPlayer() throws Exception {
         PlayerDto playerDtoCR = TestDataCreator.createPlayerDtoCR();
@@ -173,6 +453,20 @@ public class PlayerControllerIntegrationTests {
         ).andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    @Test
+    public void testThatPartialUpdatePlayerToNotExistingClubReturnsHttpStatus422() throws Exception {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + playerDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"club\":{\"id\":999}}")
+        ).andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.club.id").value(playerDto.getClub().getId()));
+    }
+
     @Test
     public void testThatDeletePlayerReturnsStatus204ForExistingPlayer() throws Exception {
         PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
@@ -196,4 +490,196 @@ public class PlayerControllerIntegrationTests {
                         .contentType(MediaType.APPLICATION_JSON)
         ).andExpect(MockMvcResultMatchers.status().isNoContent());
     }
+
+    @Test
+    public void testThatTransferPlayersReturnsHttpStatus200AndInvalidatesCachedPlayers() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        PlayerDto playerDtoCR = playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDtoLM.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/players/transfer")
+                        .param("fromClubId", playerDtoLM.getClub().getId().toString())
+                        .param("toClubId", playerDtoCR.getClub().getId().toString())
+        ).andExpect(MockMvcResultMatchers.status().isOk()
+        ).andExpect(MockMvcResultMatchers.jsonPath("$.updated").value(1));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDtoLM.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.club.name").value(playerDtoCR.getClub().getName()));
+    }
+
+    @Test
+    public void testThatTransferPlayersToTheSameClubKeepsETags() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerDtoLM.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/players/transfer")
+                        .param("fromClubId", playerDtoLM.getClub().getId().toString())
+                        .param("toClubId", playerDtoLM.getClub().getId().toString())
+        ).andExpect(MockMvcResultMatchers.status().isOk()
+        ).andExpect(MockMvcResultMatchers.jsonPath("$.updated").value(0));
+
+        assertThat(responseCache.player(playerDtoLM.getId(), playerId -> Optional.empty())).isPresent();
+        assertThat(EntityTags.of(playerService.retrievePlayerById(playerDtoLM.getId()).orElseThrow())).isEqualTo(etag);
+    }
+
+    @Test
+    public void testThatTransferPlayersToNotExistingClubReturnsHttpStatus404() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/players/transfer")
+                        .param("fromClubId", playerDtoLM.getClub().getId().toString())
+                        .param("toClubId", "99")
+        ).andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatDeletePlayersByIdsIgnoresEmptyIds() throws Exception {
+        Long idLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        Long idCR = playerService.createPlayer(TestDataCreator.createPlayerDtoCR()).getId();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/players")
+                        .param("ids", idLM + ",," + idCR)
+        ).andExpect(MockMvcResultMatchers.status().isOk()
+        ).andExpect(MockMvcResultMatchers.jsonPath("$.deleted").value(2));
+    }
+
+    @Test
+    public void testThatDeletePlayersByIdsReturnsHttpStatus200AndDeletedCount() throws Exception {
+        Long idLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        Long idCR = playerService.createPlayer(TestDataCreator.createPlayerDtoCR()).getId();
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + idLM))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/players")
+                        .param("ids", idLM + "," + idCR + ",99")
+        ).andExpect(MockMvcResultMatchers.status().isOk()
+        ).andExpect(MockMvcResultMatchers.jsonPath("$.deleted").value(2));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players/" + idLM))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatGetPlayerReturnsProtobufWhenAccepted() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players/" + playerDtoLM.getId())
+                                .accept(BinaryMediaTypes.PROTOBUF)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(BinaryMediaTypes.PROTOBUF))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG,
+                        EntityTags.forFormat(EntityTags.of(playerDtoLM), BinaryMediaTypes.PROTOBUF)))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn();
+
+        PlayerDto received = ProtobufCodec.readPlayer(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(received).usingRecursiveComparison().ignoringFields("version", "club.version").isEqualTo(playerDtoLM);
+    }
+
+    @Test
+    public void testThatEveryFormatHasItsOwnETagAndAnyOfThemMatchesIfMatch() throws Exception {
+        Long id = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        String jsonEtag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborEtag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String protobufEtag = mockMvc.perform(MockMvcRequestBuilders.get("/players/" + id).accept(BinaryMediaTypes.PROTOBUF))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(List.of(jsonEtag, cborEtag, protobufEtag)).doesNotHaveDuplicates();
+        // a tag of another representation must not confirm the cached body of this one
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players/" + id)
+                                .accept(BinaryMediaTypes.PROTOBUF)
+                                .header(HttpHeaders.IF_NONE_MATCH, jsonEtag)
+                ).andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/players/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, protobufEtag)
+                        .content("{\"firstName\":\"Leo\"}")
+        ).andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void testThatGetPlayerReturnsJsonWhenAnyTypeIsAccepted() throws Exception {
+        Long id = playerService.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players/" + id)
+                                .accept(MediaType.ALL)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(id));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players")
+                                .accept(MediaType.ALL)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void testThatGetPlayersReturnsCborWhenAccepted() throws Exception {
+        PlayerDto playerDtoLM = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        PlayerDto playerDtoCR = playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.get("/players")
+                                .accept(MediaType.APPLICATION_CBOR)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        List<PlayerDto> received = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule())
+                .readValue(result.getResponse().getContentAsByteArray(), new TypeReference<>() {
+                });
+        assertThat(received).usingRecursiveFieldByFieldElementComparatorIgnoringFields("version", "club.version")
+                .containsExactly(playerDtoLM, playerDtoCR);
+    }
+
+    @Test
+    public void testThatCreatePlayerAcceptsSmile() throws Exception {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+
+        byte[] smile = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule())
+                .writeValueAsBytes(playerDtoLM);
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/players")
+                                .contentType(BinaryMediaTypes.SMILE)
+                                .content(smile)
+                ).andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value(playerDtoLM.getFirstName()));
+
+        assertThat(playerService.retrieveAllPlayers()).hasSize(1);
+    }
+
+    @Test
+    public void testThatCreatePlayerFromProtobufIgnoresVersions() throws Exception {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        playerDtoLM.setVersion(7L);
+        playerDtoLM.getClub().setVersion(7L);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ProtobufCodec.writePlayer(playerDtoLM, outputStream);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/players")
+                                .contentType(BinaryMediaTypes.PROTOBUF)
+                                .content(outputStream.toByteArray())
+                ).andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value(playerDtoLM.getFirstName()));
+
+        PlayerDto created = playerService.retrieveAllPlayers().get(0);
+        assertThat(created.getVersion()).isZero();
+        assertThat(created.getClub().getVersion()).isZero();
+    }
 }
@@ -0,0 +1,47 @@
+package com.ispydeer.footballteamdb.controllers;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class SearchControllerIntegrationTests {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testThatSearchReturnsHttpStatus200AndMatchingPlayersAndClubs() throws Exception {
+        PlayerDto playerDtoCR = playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/search").param("q", "r")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.type == 'PLAYER')].id").value(playerDtoCR.getId().intValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.type == 'CLUB')].label").value("Real Madrid"));
+    }
+
+    @Test
+    public void testThatSearchReturnsHttpStatus400WithoutQuery() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/search"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+}
@@ -0,0 +1,110 @@
+package com.ispydeer.footballteamdb.converters;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.OneofDescriptorProto;
+import com.google.protobuf.Descriptors;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Descriptors of the messages in {@code footballdb.proto}, built from the file itself, so that tests decode and encode
+ * with the schema clients generate their classes from rather than with the codec's own field numbers. Only the syntax
+ * the file uses is supported: top-level enums, and messages of scalar, enum and message fields that are plain,
+ * {@code optional} or {@code repeated}.
+ */
+final class ProtoSchema {
+
+    private static final Pattern PACKAGE = Pattern.compile("package\\s+([\\w.]+)\\s*;");
+    private static final Pattern BLOCK = Pattern.compile("(enum|message)\\s+(\\w+)\\s*\\{([^}]*)}");
+    private static final Pattern ENUM_VALUE = Pattern.compile("(\\w+)\\s*=\\s*(\\d+)\\s*;");
+    private static final Pattern FIELD = Pattern.compile("(optional\\s+|repeated\\s+)?([\\w.]+)\\s+(\\w+)\\s*=\\s*(\\d+)\\s*;");
+
+    private ProtoSchema() {
+    }
+
+    /**
+     * Parses a {@code .proto} file.
+     *
+     * @param path the file
+     * @return the descriptor of the file
+     * @throws IOException if the file cannot be read
+     */
+    static Descriptors.FileDescriptor load(Path path) throws IOException {
+        String source = Files.readString(path).replaceAll("//[^\\n]*", "");
+        Matcher packageMatcher = PACKAGE.matcher(source);
+        String packageName = packageMatcher.find() ? packageMatcher.group(1) : "";
+        FileDescriptorProto.Builder file = FileDescriptorProto.newBuilder()
+                .setName(path.getFileName().toString())
+                .setPackage(packageName)
+                .setSyntax("proto3");
+
+        Set<String> enumNames = new HashSet<>();
+        Matcher blocks = BLOCK.matcher(source);
+        while (blocks.find()) {
+            if (blocks.group(1).equals("enum")) {
+                enumNames.add(blocks.group(2));
+            }
+        }
+        blocks.reset();
+        while (blocks.find()) {
+            if (blocks.group(1).equals("enum")) {
+                file.addEnumType(enumType(blocks.group(2), blocks.group(3)));
+            } else {
+                file.addMessageType(messageType(blocks.group(2), blocks.group(3), packageName, enumNames));
+            }
+        }
+        try {
+            return Descriptors.FileDescriptor.buildFrom(file.build(), new Descriptors.FileDescriptor[0]);
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new IllegalArgumentException("Invalid schema in " + path, e);
+        }
+    }
+
+    private static EnumDescriptorProto enumType(String name, String body) {
+        EnumDescriptorProto.Builder enumType = EnumDescriptorProto.newBuilder().setName(name);
+        Matcher values = ENUM_VALUE.matcher(body);
+        while (values.find()) {
+            enumType.addValue(EnumValueDescriptorProto.newBuilder()
+                    .setName(values.group(1))
+                    .setNumber(Integer.parseInt(values.group(2))));
+        }
+        return enumType.build();
+    }
+
+    private static DescriptorProto messageType(String name, String body, String packageName, Set<String> enumNames) {
+        DescriptorProto.Builder messageType = DescriptorProto.newBuilder().setName(name);
+        Matcher fields = FIELD.matcher(body);
+        while (fields.find()) {
+            String label = fields.group(1) == null ? "" : fields.group(1).trim();
+            String type = fields.group(2);
+            FieldDescriptorProto.Builder field = FieldDescriptorProto.newBuilder()
+                    .setName(fields.group(3))
+                    .setNumber(Integer.parseInt(fields.group(4)))
+                    .setLabel(label.equals("repeated") ? FieldDescriptorProto.Label.LABEL_REPEATED : FieldDescriptorProto.Label.LABEL_OPTIONAL);
+            if (Character.isLowerCase(type.charAt(0))) {
+                field.setType(FieldDescriptorProto.Type.valueOf("TYPE_" + type.toUpperCase(Locale.ROOT)));
+            } else {
+                field.setType(enumNames.contains(type) ? FieldDescriptorProto.Type.TYPE_ENUM : FieldDescriptorProto.Type.TYPE_MESSAGE)
+                        .setTypeName("." + packageName + "." + type);
+            }
+            if (label.equals("optional")) {
+                // proto3 optional fields are members of a synthetic oneof, as protoc declares them
+                field.setProto3Optional(true).setOneofIndex(messageType.getOneofDeclCount());
+                messageType.addOneofDecl(OneofDescriptorProto.newBuilder().setName("_" + fields.group(3)));
+            }
+            messageType.addField(field);
+        }
+        return messageType.build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.ispydeer.footballteamdb.converters;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProtobufCodecTests {
+
+    private static Descriptors.FileDescriptor schema;
+
+    @BeforeAll
+    public static void loadSchema() throws IOException {
+        schema = ProtoSchema.load(Path.of("src/main/proto/footballdb.proto"));
+    }
+
+    @Test
+    public void testThatPlayersAreReadAsWritten() throws IOException {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        playerDtoLM.setId(1L);
+        playerDtoLM.getClub().setId(2L);
+        PlayerDto playerDtoCR = TestDataCreator.createPlayerDtoCR();
+        playerDtoCR.setId(3L);
+        playerDtoCR.getClub().setFoundingDate(LocalDate.of(1902, 3, 6));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ProtobufCodec.writePlayers(List.of(playerDtoLM, playerDtoCR), outputStream);
+        List<PlayerDto> result = ProtobufCodec.readPlayers(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertThat(result).containsExactly(playerDtoLM, playerDtoCR);
+    }
+
+    @Test
+    public void testThatMissingFieldsAreReadAsNull() throws IOException {
+        ClubDto clubDto = ClubDto.builder().name("FC Barcelona").build();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ProtobufCodec.writeClub(clubDto, outputStream);
+        ClubDto result = ProtobufCodec.readClub(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertThat(result).isEqualTo(clubDto);
+        assertThat(result.getId()).isNull();
+        assertThat(result.getTotalTrophies()).isNull();
+    }
+
+    @Test
+    public void testThatPositionsAreEncodedWithTheSchemaNumbers() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ProtobufCodec.writePlayer(PlayerDto.builder().position(Position.GOALKEEPER).build(), outputStream);
+
+        // field 5, varint, value 1 (GOALKEEPER = 1 in footballdb.proto)
+        assertThat(outputStream.toByteArray()).containsExactly(0x28, 0x01);
+        assertThat(ProtobufCodec.readPlayer(new ByteArrayInputStream(new byte[]{0x28, 0x05})).getPosition())
+                .isEqualTo(Position.WINGER);
+        assertThat(ProtobufCodec.readPlayer(new ByteArrayInputStream(new byte[]{0x28, 0x06})).getPosition())
+                .isNull();
+    }
+
+    @Test
+    public void testThatUnknownFieldsAreSkipped() throws IOException {
+        // field 15 as a string "x", then field 1 (id) = 7
+        byte[] message = {0x7a, 0x01, 'x', 0x08, 0x07};
+
+        ClubDto result = ProtobufCodec.readClub(new ByteArrayInputStream(message));
+
+        assertThat(result.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    public void testThatWrittenPlayersDecodeWithTheSchema() throws IOException {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        playerDtoLM.setId(1L);
+        playerDtoLM.setVersion(3L);
+        playerDtoLM.getClub().setId(2L);
+        playerDtoLM.getClub().setVersion(4L);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ProtobufCodec.writePlayers(List.of(playerDtoLM), outputStream);
+        DynamicMessage playerList = DynamicMessage.parseFrom(schema.findMessageTypeByName("PlayerList"),
+                outputStream.toByteArray());
+
+        DynamicMessage player = (DynamicMessage) playerList.getRepeatedField(field(playerList, "players"), 0);
+        assertThat(player.getUnknownFields().asMap()).isEmpty();
+        assertThat(player.getField(field(player, "id"))).isEqualTo(1L);
+        assertThat(player.getField(field(player, "first_name"))).isEqualTo(playerDtoLM.getFirstName());
+        assertThat(player.getField(field(player, "last_name"))).isEqualTo(playerDtoLM.getLastName());
+        assertThat(player.getField(field(player, "birth_date"))).isEqualTo(playerDtoLM.getBirthDate().toEpochDay());
+        assertThat(((Descriptors.EnumValueDescriptor) player.getField(field(player, "position"))).getName())
+                .isEqualTo(playerDtoLM.getPosition().name());
+        assertThat(player.getField(field(player, "version"))).isEqualTo(3L);
+        DynamicMessage club = (DynamicMessage) player.getField(field(player, "club"));
+        assertThat(club.getUnknownFields().asMap()).isEmpty();
+        assertThat(club.getField(field(club, "id"))).isEqualTo(2L);
+        assertThat(club.getField(field(club, "name"))).isEqualTo(playerDtoLM.getClub().getName());
+        assertThat(club.getField(field(club, "short_name"))).isEqualTo(playerDtoLM.getClub().getShortName());
+        assertThat(club.getField(field(club, "founding_date"))).isEqualTo(playerDtoLM.getClub().getFoundingDate().toEpochDay());
+        assertThat(club.getField(field(club, "total_trophies"))).isEqualTo(playerDtoLM.getClub().getTotalTrophies());
+        assertThat(club.getField(field(club, "version"))).isEqualTo(4L);
+    }
+
+    @Test
+    public void testThatMessagesEncodedWithTheSchemaAreReadByTheCodec() throws IOException {
+        Descriptors.Descriptor clubType = schema.findMessageTypeByName("Club");
+        Descriptors.Descriptor playerType = schema.findMessageTypeByName("Player");
+        DynamicMessage club = DynamicMessage.newBuilder(clubType)
+                .setField(clubType.findFieldByName("id"), 2L)
+                .setField(clubType.findFieldByName("name"), "FC Barcelona")
+                .setField(clubType.findFieldByName("short_name"), "BAR")
+                .setField(clubType.findFieldByName("founding_date"), LocalDate.of(1899, 11, 29).toEpochDay())
+                .setField(clubType.findFieldByName("total_trophies"), 100)
+                .setField(clubType.findFieldByName("version"), 4L)
+                .build();
+        DynamicMessage player = DynamicMessage.newBuilder(playerType)
+                .setField(playerType.findFieldByName("id"), 1L)
+                .setField(playerType.findFieldByName("first_name"), "Lionel")
+                .setField(playerType.findFieldByName("last_name"), "Messi")
+                .setField(playerType.findFieldByName("birth_date"), LocalDate.of(1987, 6, 24).toEpochDay())
+                .setField(playerType.findFieldByName("position"), schema.findEnumTypeByName("Position").findValueByName("STRIKER"))
+                .setField(playerType.findFieldByName("club"), club)
+                .setField(playerType.findFieldByName("version"), 3L)
+                .build();
+        // every field of the schema is set, so a field added to footballdb.proto fails here until the codec reads it
+        assertThat(club.getAllFields()).hasSameSizeAs(clubType.getFields());
+        assertThat(player.getAllFields()).hasSameSizeAs(playerType.getFields());
+
+        PlayerDto result = ProtobufCodec.readPlayer(new ByteArrayInputStream(player.toByteArray()));
+
+        assertThat(result).isEqualTo(new PlayerDto(1L, "Lionel", "Messi", LocalDate.of(1987, 6, 24), Position.STRIKER,
+                new ClubDto(2L, "FC Barcelona", "BAR", LocalDate.of(1899, 11, 29), 100, 4L), 3L));
+    }
+
+    @Test
+    public void testThatEveryPositionHasItsSchemaNumber() throws IOException {
+        Descriptors.Descriptor playerType = schema.findMessageTypeByName("Player");
+        Descriptors.EnumDescriptor positionType = schema.findEnumTypeByName("Position");
+
+        for (Position position : Position.values()) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ProtobufCodec.writePlayer(PlayerDto.builder().position(position).build(), outputStream);
+            DynamicMessage player = DynamicMessage.parseFrom(playerType, outputStream.toByteArray());
+            DynamicMessage encoded = DynamicMessage.newBuilder(playerType)
+                    .setField(playerType.findFieldByName("position"), positionType.findValueByName(position.name()))
+                    .build();
+
+            assertThat(((Descriptors.EnumValueDescriptor) player.getField(playerType.findFieldByName("position"))).getName())
+                    .isEqualTo(position.name());
+            assertThat(ProtobufCodec.readPlayer(new ByteArrayInputStream(encoded.toByteArray())).getPosition())
+                    .isEqualTo(position);
+        }
+    }
+
+    private static Descriptors.FieldDescriptor field(DynamicMessage message, String name) {
+        return message.getDescriptorForType().findFieldByName(name);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ispydeer.footballteamdb.domain.generators;
+
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.repositories.ClubRepository;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PooledLoSequenceGeneratorIntegrationTests {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Test
+    public void testThatGeneratorsUsePooledLoWithConfiguredAllocationSize() {
+        SequenceStyleGenerator playerGenerator = generatorOf(Player.class);
+        SequenceStyleGenerator clubGenerator = generatorOf(Club.class);
+
+        assertThat(playerGenerator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+        assertThat(playerGenerator.getOptimizer().getIncrementSize()).isEqualTo(50);
+        assertThat(playerGenerator.getDatabaseStructure().getPhysicalName().getObjectName().getText()).isEqualTo("player_seq");
+
+        assertThat(clubGenerator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+        assertThat(clubGenerator.getOptimizer().getIncrementSize()).isEqualTo(20);
+        assertThat(clubGenerator.getDatabaseStructure().getPhysicalName().getObjectName().getText()).isEqualTo("club_seq");
+    }
+
+    @Test
+    public void testThatIdsAreAllocatedConsecutivelyWithinABlock() {
+        Club first = clubRepository.save(TestDataCreator.createClubEntityBarca());
+        Club second = clubRepository.save(TestDataCreator.createClubEntityRealMadrid());
+
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+    }
+
+    private SequenceStyleGenerator generatorOf(Class<?> entityClass) {
+        return (SequenceStyleGenerator) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+    }
+}
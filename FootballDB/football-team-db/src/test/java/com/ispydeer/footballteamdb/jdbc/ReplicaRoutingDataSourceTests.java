@@ -0,0 +1,141 @@
+package com.ispydeer.footballteamdb.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicaRoutingDataSourceTests {
+
+    private static final String RECEIVED_LSN = "0/3000060";
+
+    private static volatile String replayedLsn;
+
+    private final DataSource primary = database("routing-primary");
+    private final DataSource replica = database("routing-replica");
+
+    private ReplicaRoutingDataSource underTest;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        underTest.close();
+        new JdbcTemplate(primary).execute("drop table marker");
+        new JdbcTemplate(replica).execute("drop table marker");
+    }
+
+    @Test
+    public void testThatReadOnlyTransactionRunsOnReplica() {
+        underTest = new ReplicaRoutingDataSource(primary, List.of(replica), null, 1000);
+        underTest.checkReplicas();
+
+        assertThat(readMarker(true)).isEqualTo("routing-replica");
+        assertThat(readMarker(false)).isEqualTo("routing-primary");
+    }
+
+    @Test
+    public void testThatReadsFallBackToPrimaryWhenReplicaIsDown() {
+        DataSource unreachableReplica = new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE", "sa", "");
+        underTest = new ReplicaRoutingDataSource(primary, List.of(unreachableReplica), null, 1000);
+        underTest.checkReplicas();
+
+        assertThat(underTest.getAvailableReplicas()).isZero();
+        assertThat(readMarker(true)).isEqualTo("routing-primary");
+    }
+
+    @Test
+    public void testThatReadsFallBackToPrimaryWhenReplicaLagsBehind() {
+        underTest = new ReplicaRoutingDataSource(primary, List.of(replica), "select 5", 1000);
+        underTest.checkReplicas();
+
+        assertThat(underTest.getAvailableReplicas()).isZero();
+        assertThat(readMarker(true)).isEqualTo("routing-primary");
+    }
+
+    @Test
+    public void testThatReplicaWithinMaxLagIsUsed() {
+        underTest = new ReplicaRoutingDataSource(primary, List.of(replica), "select 0.5", 1000);
+        underTest.checkReplicas();
+
+        assertThat(underTest.getAvailableReplicas()).isEqualTo(1);
+        assertThat(readMarker(true)).isEqualTo("routing-replica");
+    }
+
+    @Test
+    public void testThatCaughtUpIdleReplicaIsUsedWithDefaultLagQuery() throws IOException {
+        // the primary was written an hour ago, and the replica has replayed all WAL it received since
+        replayedLsn = RECEIVED_LSN;
+        underTest = new ReplicaRoutingDataSource(primary, List.of(replicaWithWalFunctions()), defaultLagQuery(), 1000);
+        underTest.checkReplicas();
+
+        assertThat(underTest.getAvailableReplicas()).isEqualTo(1);
+        assertThat(readMarker(true)).isEqualTo("routing-replica");
+    }
+
+    @Test
+    public void testThatReplicaReplayingOldWalIsSkippedWithDefaultLagQuery() throws IOException {
+        replayedLsn = "0/3000000";
+        underTest = new ReplicaRoutingDataSource(primary, List.of(replicaWithWalFunctions()), defaultLagQuery(), 1000);
+        underTest.checkReplicas();
+
+        assertThat(underTest.getAvailableReplicas()).isZero();
+        assertThat(readMarker(true)).isEqualTo("routing-primary");
+    }
+
+    public static String lastWalReceiveLsn() {
+        return RECEIVED_LSN;
+    }
+
+    public static String lastWalReplayLsn() {
+        return replayedLsn;
+    }
+
+    public static OffsetDateTime lastXactReplayTimestamp() {
+        return OffsetDateTime.now().minusHours(1);
+    }
+
+    /**
+     * Declares the PostgreSQL recovery functions used by the default lag query in the replica database.
+     */
+    private DataSource replicaWithWalFunctions() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+        String testClass = ReplicaRoutingDataSourceTests.class.getName();
+        jdbcTemplate.execute("create alias if not exists pg_last_wal_receive_lsn for '" + testClass + ".lastWalReceiveLsn'");
+        jdbcTemplate.execute("create alias if not exists pg_last_wal_replay_lsn for '" + testClass + ".lastWalReplayLsn'");
+        jdbcTemplate.execute("create alias if not exists pg_last_xact_replay_timestamp for '" + testClass + ".lastXactReplayTimestamp'");
+        return replica;
+    }
+
+    private static String defaultLagQuery() throws IOException {
+        // the test resources have their own application.properties, which shadows the main one on the classpath
+        return PropertiesLoaderUtils.loadProperties(new FileSystemResource("src/main/resources/application.properties"))
+                .getProperty("footballdb.datasource.replicas.lag-query");
+    }
+
+    private String readMarker(boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(underTest);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table marker (name varchar(50))");
+        jdbcTemplate.update("insert into marker values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,90 @@
+package com.ispydeer.footballteamdb.jdbc;
+
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.cache.ResponseCache;
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.services.ClubService;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application with the test database registered as its own replica, a second pool on the same
+ * embedded H2 database, so replicated data is visible right away.
+ */
+@SpringBootTest(properties = "footballdb.datasource.replicas.urls=jdbc:h2:mem:testdb")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ReplicaRoutingIntegrationTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private ClubService clubService;
+
+    @Test
+    public void testThatApplicationDataSourceRoutesThroughLazyProxy() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isSameAs(replicaRoutingDataSource);
+        assertThat(replicaRoutingDataSource.getAvailableReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatClubWrittenToPrimaryIsReadFromReplica() {
+        ClubDto clubDto = clubService.createClub(TestDataCreator.createClubDtoBarca());
+
+        ClubDto result = clubService.retrieveClubById(clubDto.getId()).orElse(null);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getName()).isEqualTo(clubDto.getName());
+    }
+
+    /**
+     * Runs the application with a replica that never receives the writes of the primary, as if it lagged behind forever.
+     * The primary is its own database, so closing this context does not drop the schema of the enclosing tests.
+     */
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:primary",
+            "footballdb.datasource.replicas.urls=jdbc:h2:mem:stale;"
+                    + "INIT=RUNSCRIPT FROM 'classpath:db/migration/V1__create_club_and_player.sql'"})
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+    public class StaleReplica {
+
+        @Autowired
+        private ClubService clubService;
+
+        @Autowired
+        private ResponseCache responseCache;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Test
+        public void testThatCachedResponseIsLoadedFromPrimary() {
+            ClubDto clubDto = clubService.createClub(TestDataCreator.createClubDtoBarca());
+            // the second-level cache would answer the lookup without asking the replica
+            entityManagerFactory.getCache().evictAll();
+
+            assertThat(clubService.retrieveClubById(clubDto.getId())).isEmpty();
+            assertThat(responseCache.club(clubDto.getId(), clubService::retrieveClubById)).isPresent()
+                    .hasValueSatisfying(response -> assertThat(response.etag()).isEqualTo(EntityTags.of(clubDto)));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ispydeer.footballteamdb.mappers;
+
+import com.ispydeer.footballteamdb.config.MapperConfig;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlayerMapperTests {
+
+    private final MapperConfig mapperConfig = new MapperConfig();
+    private final PlayerMapper generatedMapper = mapperConfig.generatedPlayerMapper();
+    private final PlayerMapper modelMapperMapper = mapperConfig.modelMapperPlayerMapper(mapperConfig.modelMapper());
+
+    @Test
+    public void testThatGeneratedMapperMapsEntityLikeModelMapper() {
+        Player player = TestDataCreator.createPlayerEntityLM();
+        player.setId(1L);
+        player.getClub().setId(2L);
+
+        PlayerDto result = generatedMapper.toDto(player);
+
+        assertThat(result).isEqualTo(modelMapperMapper.toDto(player));
+        assertThat(result.getClub().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    public void testThatGeneratedMapperMapsDtoLikeModelMapper() {
+        PlayerDto playerDto = TestDataCreator.createPlayerDtoLM();
+
+        Player result = generatedMapper.toEntity(playerDto);
+
+        assertThat(result).isEqualTo(modelMapperMapper.toEntity(playerDto));
+        assertThat(result.getClub().getName()).isEqualTo(playerDto.getClub().getName());
+    }
+
+    @Test
+    public void testThatGeneratedMapperMapsMissingClubToNull() {
+        PlayerDto playerDto = TestDataCreator.createPlayerDtoLM();
+        playerDto.setClub(null);
+
+        assertThat(generatedMapper.toEntity(playerDto).getClub()).isNull();
+    }
+}
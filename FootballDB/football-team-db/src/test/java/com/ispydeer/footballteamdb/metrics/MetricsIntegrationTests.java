@@ -0,0 +1,63 @@
+package com.ispydeer.footballteamdb.metrics;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class MetricsIntegrationTests {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testThatServiceMethodsAndMappingAreTimed() {
+        playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        assertThat(meterRegistry.get("footballdb.service")
+                .tag("class", PlayerService.class.getName())
+                .tag("method", "createPlayer")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("footballdb.mapping")
+                .tag("mapper", "player")
+                .tag("operation", "toEntity")
+                .tag("strategy", "generated")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatStatementsAreCountedPerRequest() throws Exception {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/players"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(meterRegistry.get("footballdb.hibernate.statements")
+                .tag("method", "GET")
+                .tag("uri", "/players")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(playerDto.getId()).isNotNull();
+    }
+}
@@ -55,11 +55,11 @@ public class ClubRepositoryIntegrationTest {
         underTest.save(clubBarca);
 
         clubBarca.setName("Updated");
-        underTest.save(clubBarca);
+        Club updated = underTest.save(clubBarca);
 
         Optional<Club> result = underTest.findById(clubBarca.getId());
         assertThat(result).isPresent();
-        assertThat(result.get()).isEqualTo(clubBarca);
+        assertThat(result.get()).isEqualTo(updated);
     }
 
     @Test
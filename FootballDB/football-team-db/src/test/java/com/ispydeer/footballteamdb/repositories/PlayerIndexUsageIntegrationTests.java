@@ -0,0 +1,89 @@
+package com.ispydeer.footballteamdb.repositories;
+
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that the player filters of {@link PlayerRepositoryCustom#findViews} are answered from an index
+ * instead of a table scan. The statements have the shape of the SQL generated for the criteria query.
+ */
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PlayerIndexUsageIntegrationTests {
+
+    private static final String PLAYER_VIEW_SELECT = "select p.id, p.first_name, p.last_name, p.birth_date, p.position, "
+            + "c.id, c.name, c.short_name, c.founding_date, c.total_trophies "
+            + "from player p left join club c on c.id = p.club_id ";
+
+    // H2 prints the index used to read a table as a comment right after the table
+    private static final Pattern PLAYER_ACCESS_PATH = Pattern.compile("\"PLAYER\" \"P\"\\s*/\\* (.*?)\\*/", Pattern.DOTALL);
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        playerRepository.save(TestDataCreator.createPlayerEntityLM());
+        playerRepository.save(TestDataCreator.createPlayerEntityCR());
+    }
+
+    @Test
+    public void testThatFilterByClubAndPositionUsesCompositeIndex() {
+        String accessPath = explainPlayerAccess("where p.club_id = 1 and p.position = 'STRIKER' order by p.id");
+        String nextPageAccessPath = explainPlayerAccess("where p.id > 10 and p.club_id = 1 and p.position = 'STRIKER' order by p.id");
+
+        assertThat(accessPath).startsWith("PUBLIC.IDX_PLAYER_CLUB_POSITION:");
+        // with a cursor on a near-empty table the (club_id, id) index costs the same
+        assertThat(nextPageAccessPath).startsWith("PUBLIC.IDX_PLAYER_CLUB").contains("CLUB_ID =");
+    }
+
+    @Test
+    public void testThatFilterByClubUsesIndexOnClub() {
+        String accessPath = explainPlayerAccess("where p.club_id = 1 order by p.id");
+        String nextPageAccessPath = explainPlayerAccess("where p.club_id = 1 and p.id > 10 order by p.id");
+
+        assertThat(accessPath).doesNotContain("tableScan").contains("CLUB_ID =");
+        assertThat(nextPageAccessPath).startsWith("PUBLIC.IDX_PLAYER_CLUB:");
+    }
+
+    @Test
+    public void testThatFilterByPositionUsesPositionIndex() {
+        String accessPath = explainPlayerAccess("where p.position = 'STRIKER' order by p.id");
+        String nextPageAccessPath = explainPlayerAccess("where p.id > 10 and p.position = 'STRIKER' order by p.id");
+
+        assertThat(accessPath).startsWith("PUBLIC.IDX_PLAYER_POSITION:");
+        assertThat(nextPageAccessPath).startsWith("PUBLIC.IDX_PLAYER_POSITION:");
+    }
+
+    @Test
+    public void testThatFilterByBirthDateRangeUsesBirthDateIndex() {
+        String accessPath = explainPlayerAccess(
+                "where p.birth_date > DATE '1986-01-01' and p.birth_date < DATE '1988-01-01' order by p.id");
+
+        assertThat(accessPath).startsWith("PUBLIC.IDX_PLAYER_BIRTH_DATE:");
+    }
+
+    private String explainPlayerAccess(String condition) {
+        String plan = jdbcTemplate.queryForObject(
+                "explain " + PLAYER_VIEW_SELECT + condition + " fetch first 50 rows only", String.class);
+        Matcher matcher = PLAYER_ACCESS_PATH.matcher(plan);
+        assertThat(matcher.find()).as("access path in plan %s", plan).isTrue();
+        return matcher.group(1).trim();
+    }
+}
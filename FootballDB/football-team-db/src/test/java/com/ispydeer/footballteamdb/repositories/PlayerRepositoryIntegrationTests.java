@@ -1,7 +1,10 @@
 package com.ispydeer.footballteamdb.repositories;
 
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
 import com.ispydeer.footballteamdb.domain.entities.Club;
 import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.domain.filters.PlayerFilter;
+import com.ispydeer.footballteamdb.domain.projections.PlayerView;
 import com.ispydeer.footballteamdb.utilities.TestDataCreator;
 import org.checkerframework.checker.units.qual.A;
 import org.junit.jupiter.api.Test;
@@ -12,6 +15,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -53,17 +57,29 @@ public class PlayerRepositoryIntegrationTests {
         assertThat(result).containsExactlyInAnyOrder(playerLM, playerCR);
     }
 
+    @Test
+    public void testThatPlayerViewCanBeRecalledWithItsClub(){
+        Player player = TestDataCreator.createPlayerEntityLM();
+        underTest.save(player);
+
+        Optional<PlayerView> result = underTest.findViewById(player.getId());
+        assertThat(result).isPresent();
+        assertThat(result.get().firstName()).isEqualTo(player.getFirstName());
+        assertThat(result.get().clubId()).isEqualTo(player.getClub().getId());
+        assertThat(result.get().clubName()).isEqualTo(player.getClub().getName());
+    }
+
     @Test
     public void testThatClubCanBeUpdated(){
         Player playerLM = TestDataCreator.createPlayerEntityLM();
         underTest.save(playerLM);
 
         playerLM.setFirstName("Updated");
-        underTest.save(playerLM);
+        Player updated = underTest.save(playerLM);
 
         Optional<Player> result = underTest.findById(playerLM.getId());
         assertThat(result).isPresent();
-        assertThat(result.get()).isEqualTo(playerLM);
+        assertThat(result.get()).isEqualTo(updated);
     }
 
     @Test
@@ -76,4 +92,22 @@ public class PlayerRepositoryIntegrationTests {
         assertThat(result).isEmpty();
     }
 
+
+    @Test
+    public void testThatPlayerViewsCanBeFilteredByClubPositionAndBirthDate(){
+        Player playerLM = TestDataCreator.createPlayerEntityLM();
+        underTest.save(playerLM);
+        Player playerCR = TestDataCreator.createPlayerEntityCR();
+        underTest.save(playerCR);
+
+        List<PlayerView> byClubAndPosition = underTest.findViews(
+                new PlayerFilter(playerCR.getClub().getId(), Position.STRIKER, null, null), 0, 10);
+        List<PlayerView> byBirthDate = underTest.findViews(
+                new PlayerFilter(null, null, LocalDate.of(1986, 1, 1), LocalDate.of(1988, 1, 1)), 0, 10);
+        List<PlayerView> all = underTest.findViews(PlayerFilter.none(), 0, 10);
+
+        assertThat(byClubAndPosition).extracting(PlayerView::id).containsExactly(playerCR.getId());
+        assertThat(byBirthDate).extracting(PlayerView::id).containsExactly(playerLM.getId());
+        assertThat(all).hasSize(2);
+    }
 }
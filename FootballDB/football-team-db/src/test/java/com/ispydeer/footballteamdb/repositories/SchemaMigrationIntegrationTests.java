@@ -0,0 +1,131 @@
+package com.ispydeer.footballteamdb.repositories;
+
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application on the schema created by the Flyway migrations, validated by Hibernate against the
+ * entities, as in production.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.datasource.url=jdbc:h2:mem:migrations",
+        "spring.jpa.properties.footballdb.id.allocation-size.club_seq=50"})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SchemaMigrationIntegrationTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    public void testThatAllMigrationsAreApplied() {
+        Integer appliedMigrations = new JdbcTemplate(dataSource).queryForObject(
+                "select count(*) from \"flyway_schema_history\" where \"version\" = '1' and \"success\"", Integer.class);
+
+        assertThat(appliedMigrations).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatPlayerIndexesAreCreated() throws Exception {
+        Set<String> indexes = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getIndexInfo(null, null, "PLAYER", false, false)) {
+            while (resultSet.next()) {
+                if (resultSet.getString("INDEX_NAME") != null) {
+                    indexes.add(resultSet.getString("INDEX_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        assertThat(indexes).contains("idx_player_club", "idx_player_club_position", "idx_player_position",
+                "idx_player_birth_date");
+    }
+
+    @Test
+    public void testThatPlayerIsWrittenToMigratedSchema() {
+        PlayerDto result = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        assertThat(result.getId()).isNotNull();
+        assertThat(result.getClub().getVersion()).isZero();
+    }
+
+    /**
+     * Migrates a database created by {@code ddl-auto=update} before the migrations existed, with data in it.
+     */
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(properties = {
+            "spring.flyway.enabled=true",
+            "spring.jpa.hibernate.ddl-auto=validate",
+            "spring.datasource.url=" + BaselineSchema.URL,
+            "spring.jpa.properties.footballdb.id.allocation-size.club_seq=50"})
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+    public class BaselineSchema {
+
+        static final String URL = "jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1";
+
+        @Autowired
+        private DataSource dataSource;
+
+        @Autowired
+        private PlayerService playerService;
+
+        @BeforeAll
+        public static void createBaselineSchema() throws SQLException {
+            try (Connection connection = DriverManager.getConnection(URL, "sa", "password")) {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline-schema.sql"));
+            }
+        }
+
+        @Test
+        public void testThatBaselineIsRecordedBeforeTheMigrations() {
+            List<String> versions = new JdbcTemplate(dataSource).queryForList(
+                    "select \"version\" from \"flyway_schema_history\" where \"version\" is not null and \"success\" order by \"installed_rank\"",
+                    String.class);
+
+            assertThat(versions).containsExactly("0", "1");
+        }
+
+        @Test
+        public void testThatExistingRowsAreKeptAndVersioned() {
+            PlayerDto existingPlayer = playerService.retrievePlayerById(1L).orElseThrow();
+            assertThat(existingPlayer.getLastName()).isEqualTo("Messi");
+            assertThat(existingPlayer.getVersion()).isZero();
+            assertThat(existingPlayer.getClub().getVersion()).isZero();
+
+            PlayerDto createdPlayer = playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+            assertThat(createdPlayer.getId()).isGreaterThan(1L);
+            assertThat(createdPlayer.getClub().getId()).isGreaterThan(1L);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ispydeer.footballteamdb.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NameIndexTests {
+
+    private final NameIndex underTest = new NameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        underTest.put(1, "Lionel Messi", "Lionel", "Messi");
+        underTest.put(2, "Cristiano Ronaldo", "Cristiano", "Ronaldo");
+        underTest.put(3, "Ronaldo Nazário", "Ronaldo", "Nazário");
+        underTest.put(4, "Ronaldinho Gaúcho", "Ronaldinho", "Gaúcho");
+    }
+
+    @Test
+    public void testThatQueryMatchesPrefixesOfAnyName() {
+        List<NameIndex.Match> result = underTest.search("ronald", 10);
+
+        assertThat(result).extracting(NameIndex.Match::id).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(result).extracting(NameIndex.Match::score).containsOnly(1.0);
+    }
+
+    @Test
+    public void testThatEveryQueryTokenMustMatch() {
+        List<NameIndex.Match> result = underTest.search("Ronaldo Cris", 10);
+
+        assertThat(result).extracting(NameIndex.Match::id).containsExactly(2L);
+    }
+
+    @Test
+    public void testThatDiacriticsAndCaseAreIgnored() {
+        assertThat(underTest.search("NAZARIO", 10)).extracting(NameIndex.Match::label).containsExactly("Ronaldo Nazário");
+        assertThat(underTest.search("gaúch", 10)).extracting(NameIndex.Match::id).containsExactly(4L);
+    }
+
+    @Test
+    public void testThatCaseIsIgnoredIndependentlyOfTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // in Turkish, "I".toLowerCase() is a dotless i
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            underTest.put(5, "ISCO", "ISCO");
+
+            assertThat(underTest.search("isco", 10)).extracting(NameIndex.Match::id).containsExactly(5L);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testThatMisspelledQueryFindsSimilarNames() {
+        List<NameIndex.Match> result = underTest.search("Mesi", 10);
+
+        assertThat(result).extracting(NameIndex.Match::id).containsExactly(1L);
+        assertThat(result.get(0).score()).isLessThan(1.0);
+    }
+
+    @Test
+    public void testThatResultsAreLimited() {
+        assertThat(underTest.search("r", 2)).hasSize(2);
+    }
+
+    @Test
+    public void testThatUpdatedAndRemovedDocumentsAreNoLongerFound() {
+        underTest.put(1, "Leo Messi", "Leo", "Messi");
+        underTest.remove(2);
+
+        assertThat(underTest.search("lionel", 10)).isEmpty();
+        assertThat(underTest.search("leo", 10)).extracting(NameIndex.Match::id).containsExactly(1L);
+        assertThat(underTest.search("cristiano", 10)).isEmpty();
+        assertThat(underTest.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ispydeer.footballteamdb.search;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
+import com.ispydeer.footballteamdb.services.ClubService;
+import com.ispydeer.footballteamdb.services.PlayerService;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SearchIndexIntegrationTests {
+
+    @Autowired
+    private SearchIndex underTest;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private ClubService clubService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    public void testThatCreatedPlayerAndItsClubAreFound() {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        List<SearchHit> result = underTest.search("barc", 10);
+
+        assertThat(result).containsExactly(
+                new SearchHit(SearchHit.Type.CLUB, playerDto.getClub().getId(), playerDto.getClub().getName(), 1.0));
+        assertThat(underTest.search("messi", 10)).extracting(SearchHit::id).containsExactly(playerDto.getId());
+    }
+
+    @Test
+    public void testThatUpdatedAndDeletedEntitiesAreReindexed() {
+        PlayerDto playerDto = playerService.createPlayer(TestDataCreator.createPlayerDtoCR());
+        ClubDto clubDto = clubService.createClub(TestDataCreator.createClubDtoBarca());
+
+        playerService.partialUpdatePlayer(PlayerDto.builder().firstName("Cris").build(), playerDto.getId());
+        clubService.deleteClubById(clubDto.getId());
+
+        assertThat(underTest.search("ronaldo", 10)).extracting(SearchHit::label).containsExactly("Cris Ronaldo");
+        assertThat(underTest.search("barcelona", 10)).isEmpty();
+    }
+
+    @Test
+    public void testThatPlayerLabelLeavesOutMissingNames() {
+        PlayerDto playerDto = playerService.createPlayer(PlayerDto.builder().lastName("Pedri").build());
+
+        assertThat(underTest.search("pedri", 10)).containsExactly(
+                new SearchHit(SearchHit.Type.PLAYER, playerDto.getId(), "Pedri", 1.0));
+    }
+
+    @Test
+    public void testThatRebuildIndexesPlayersWrittenOutsideTheServices() {
+        playerRepository.save(TestDataCreator.createPlayerEntityLM());
+        assertThat(underTest.search("lionel", 10)).isEmpty();
+
+        underTest.rebuild();
+
+        assertThat(underTest.search("lionel", 10)).extracting(SearchHit::type).containsExactly(SearchHit.Type.PLAYER);
+        assertThat(underTest.search("fc barcelona", 10)).extracting(SearchHit::type).containsExactly(SearchHit.Type.CLUB);
+    }
+}
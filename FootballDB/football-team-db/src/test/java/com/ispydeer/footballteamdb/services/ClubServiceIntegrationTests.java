@@ -1,7 +1,16 @@
 package com.ispydeer.footballteamdb.services;
 
+import com.ispydeer.footballteamdb.domain.datatypes.Position;
 import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.repositories.ClubRepository;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
 import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +20,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,6 +33,15 @@ public class ClubServiceIntegrationTests {
     @Autowired
     private ClubService underTest;
 
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testThatClubIsSuccessfullySavedAndRecalledById() {
         ClubDto clubDtoBAR = TestDataCreator.createClubDtoBarca();
@@ -68,7 +87,7 @@ public class ClubServiceIntegrationTests {
         long id = underTest.createClub(clubDtoBAR).getId();
 
         clubDtoBAR.setName("Updated");
-        ClubDto result = underTest.partialUpdateClub(clubDtoBAR, id);
+        ClubDto result = underTest.partialUpdateClub(clubDtoBAR, id).orElseThrow();
 
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo(clubDtoBAR.getName());
@@ -84,4 +103,85 @@ public class ClubServiceIntegrationTests {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    public void testThatClubPlayersArePagedWithTheClubAttached() {
+        Club barca = clubRepository.save(TestDataCreator.createClubEntityBarca());
+        Player first = playerRepository.save(createPlayer(barca, Position.MIDFIELDER));
+        Player second = playerRepository.save(createPlayer(barca, Position.STRIKER));
+        Player third = playerRepository.save(createPlayer(barca, Position.STRIKER));
+        playerRepository.save(TestDataCreator.createPlayerEntityCR());
+
+        List<PlayerDto> firstPage = underTest.retrieveClubPlayersPage(barca.getId(), 0, 2).orElseThrow();
+        List<PlayerDto> secondPage = underTest.retrieveClubPlayersPage(barca.getId(), second.getId(), 2).orElseThrow();
+
+        assertThat(firstPage).extracting(PlayerDto::getId).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(PlayerDto::getId).containsExactly(third.getId());
+        assertThat(firstPage).allSatisfy(player -> assertThat(player.getClub().getName()).isEqualTo(barca.getName()));
+    }
+
+    @Test
+    public void testThatClubPlayersAreNotFoundForNonExistingClub() {
+        final int ID_OF_NOT_EXISTING_CLUB = 99;
+
+        assertThat(underTest.retrieveClubPlayersPage(ID_OF_NOT_EXISTING_CLUB, 0, 10)).isEmpty();
+        assertThat(underTest.retrievePlayerCountsByPosition(ID_OF_NOT_EXISTING_CLUB)).isEmpty();
+    }
+
+    @Test
+    public void testThatTotalTrophiesAreAdjustedWithOneStatement() {
+        Club barca = clubRepository.save(TestDataCreator.createClubEntityBarca());
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        boolean result = underTest.addTotalTrophies(barca.getId(), 5);
+
+        assertThat(result).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        Club updated = clubRepository.findById(barca.getId()).orElseThrow();
+        assertThat(updated.getTotalTrophies()).isEqualTo(105);
+        assertThat(updated.getVersion()).isEqualTo(barca.getVersion() + 1);
+    }
+
+    @Test
+    public void testThatTotalTrophiesDoNotDropBelowZero() {
+        Club barca = clubRepository.save(TestDataCreator.createClubEntityBarca());
+
+        underTest.addTotalTrophies(barca.getId(), -1000);
+
+        assertThat(clubRepository.findById(barca.getId()).orElseThrow().getTotalTrophies()).isZero();
+    }
+
+    @Test
+    public void testThatTotalTrophiesOfNonExistingClubAreNotAdjusted() {
+        final int ID_OF_NOT_EXISTING_CLUB = 99;
+
+        assertThat(underTest.addTotalTrophies(ID_OF_NOT_EXISTING_CLUB, 1)).isFalse();
+    }
+
+    @Test
+    public void testThatPlayerCountsAreGroupedByPosition() {
+        Club barca = clubRepository.save(TestDataCreator.createClubEntityBarca());
+        playerRepository.save(createPlayer(barca, Position.MIDFIELDER));
+        playerRepository.save(createPlayer(barca, Position.STRIKER));
+        playerRepository.save(createPlayer(barca, Position.STRIKER));
+        playerRepository.save(TestDataCreator.createPlayerEntityCR());
+
+        Map<Position, Long> result = underTest.retrievePlayerCountsByPosition(barca.getId()).orElseThrow();
+
+        assertThat(result)
+                .containsEntry(Position.STRIKER, 2L)
+                .containsEntry(Position.MIDFIELDER, 1L)
+                .containsEntry(Position.GOALKEEPER, 0L)
+                .hasSize(Position.values().length);
+    }
+
+    private static Player createPlayer(Club club, Position position) {
+        Player player = TestDataCreator.createPlayerEntityLM();
+        player.setClub(club);
+        player.setPosition(position);
+        return player;
+    }
 }
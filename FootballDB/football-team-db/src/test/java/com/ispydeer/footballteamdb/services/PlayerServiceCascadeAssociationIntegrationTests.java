@@ -0,0 +1,50 @@
+package com.ispydeer.footballteamdb.services;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "footballdb.players.club-association=cascade")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PlayerServiceCascadeAssociationIntegrationTests {
+
+    @Autowired
+    private PlayerService underTest;
+
+    @Autowired
+    private ClubService clubService;
+
+    @Test
+    public void testThatNestedClubFieldsAreAppliedToExistingClub() {
+        PlayerDto playerDtoLM = underTest.createPlayer(TestDataCreator.createPlayerDtoLM());
+        long clubId = playerDtoLM.getClub().getId();
+
+        PlayerDto result = underTest.partialUpdatePlayer(
+                PlayerDto.builder().club(ClubDto.builder().id(clubId).name("Renamed").build()).build(),
+                playerDtoLM.getId()).orElseThrow();
+
+        assertThat(result.getClub().getName()).isEqualTo("Renamed");
+        assertThat(clubService.retrieveClubById(clubId).orElseThrow().getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    public void testThatPlayerOfExistingClubIsCreated() {
+        PlayerDto playerDtoLM = underTest.createPlayer(TestDataCreator.createPlayerDtoLM());
+        PlayerDto playerDtoCR = TestDataCreator.createPlayerDtoCR();
+        playerDtoCR.setClub(ClubDto.builder().id(playerDtoLM.getClub().getId()).name("Renamed").build());
+
+        PlayerDto result = underTest.createPlayer(playerDtoCR);
+
+        assertThat(result.getClub().getId()).isEqualTo(playerDtoLM.getClub().getId());
+        assertThat(result.getClub().getName()).isEqualTo("Renamed");
+    }
+}
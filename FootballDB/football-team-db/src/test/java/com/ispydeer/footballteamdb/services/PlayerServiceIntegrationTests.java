@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
@@ -69,7 +70,7 @@ public class PlayerServiceIntegrationTests {
         long id = underTest.createPlayer(playerDtoLM).getId();
 
         playerDtoLM.setFirstName("Updated");
-        PlayerDto result = underTest.partialUpdatePlayer(playerDtoLM, id);
+        PlayerDto result = underTest.partialUpdatePlayer(playerDtoLM, id).orElseThrow();
 
         assertThat(result).isNotNull();
         assertThat(result.getFirstName()).isEqualTo(playerDtoLM.getFirstName());
@@ -85,4 +86,45 @@ public class PlayerServiceIntegrationTests {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    public void testThatPlayersAreTransferredToAnotherClub() {
+        PlayerDto playerDtoLM = underTest.createPlayer(TestDataCreator.createPlayerDtoLM());
+        PlayerDto playerDtoCR = underTest.createPlayer(TestDataCreator.createPlayerDtoCR());
+
+        int result = underTest.transferPlayers(playerDtoLM.getClub().getId(), playerDtoCR.getClub().getId()).orElseThrow();
+
+        assertThat(result).isEqualTo(1);
+        assertThat(underTest.retrievePlayerById(playerDtoLM.getId()).orElseThrow().getClub().getName())
+                .isEqualTo(playerDtoCR.getClub().getName());
+    }
+
+    @Test
+    public void testThatTransferToNotExistingClubIsNotFound() {
+        PlayerDto playerDtoLM = underTest.createPlayer(TestDataCreator.createPlayerDtoLM());
+
+        assertThat(underTest.transferPlayers(playerDtoLM.getClub().getId(), 99)).isEmpty();
+        assertThat(underTest.retrievePlayerById(playerDtoLM.getId()).orElseThrow().getClub().getId())
+                .isEqualTo(playerDtoLM.getClub().getId());
+    }
+
+    @Test
+    public void testThatPlayersAreDeletedByIds() {
+        long idLM = underTest.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        long idCR = underTest.createPlayer(TestDataCreator.createPlayerDtoCR()).getId();
+        long idOfRemainingPlayer = underTest.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+
+        int result = underTest.deletePlayersByIds(List.of(idLM, idCR, idCR, 99L));
+
+        assertThat(result).isEqualTo(2);
+        assertThat(underTest.retrieveAllPlayers()).extracting(PlayerDto::getId).containsExactly(idOfRemainingPlayer);
+    }
+
+    @Test
+    public void testThatPlayerOfNotExistingClubIsNotCreated() {
+        PlayerDto playerDtoLM = TestDataCreator.createPlayerDtoLM();
+        playerDtoLM.getClub().setId(99L);
+
+        assertThatThrownBy(() -> underTest.createPlayer(playerDtoLM)).isInstanceOf(UnknownClubException.class);
+    }
 }
@@ -0,0 +1,64 @@
+package com.ispydeer.footballteamdb.services;
+
+import com.ispydeer.footballteamdb.cache.EntityTags;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PlayerServiceOptimisticLockingIntegrationTests {
+
+    @Autowired
+    private PlayerService underTest;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    public void testThatUpdateIncrementsVersion() {
+        long id = underTest.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        long initialVersion = playerRepository.findById(id).orElseThrow().getVersion();
+
+        underTest.partialUpdatePlayer(PlayerDto.builder().firstName("Leo").build(), id);
+
+        assertThat(playerRepository.findById(id).orElseThrow().getVersion()).isEqualTo(initialVersion + 1);
+    }
+
+    @Test
+    public void testThatStaleWriteIsRejected() {
+        long id = underTest.createPlayer(TestDataCreator.createPlayerDtoLM()).getId();
+        Player stalePlayer = playerRepository.findById(id).orElseThrow();
+
+        underTest.partialUpdatePlayer(PlayerDto.builder().firstName("Leo").build(), id);
+        stalePlayer.setLastName("Stale");
+
+        assertThatThrownBy(() -> playerRepository.save(stalePlayer))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(underTest.retrievePlayerById(id).orElseThrow().getLastName()).isNotEqualTo("Stale");
+    }
+
+    @Test
+    public void testThatConditionalUpdateWithStaleTagIsRejected() {
+        PlayerDto player = underTest.createPlayer(TestDataCreator.createPlayerDtoLM());
+        String staleTag = EntityTags.of(player);
+        underTest.partialUpdatePlayer(PlayerDto.builder().firstName("Leo").build(), player.getId());
+
+        assertThatThrownBy(() -> underTest.partialUpdatePlayer(PlayerDto.builder().lastName("Stale").build(),
+                player.getId(), staleTag))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(underTest.retrievePlayerById(player.getId()).orElseThrow().getLastName()).isNotEqualTo("Stale");
+    }
+}
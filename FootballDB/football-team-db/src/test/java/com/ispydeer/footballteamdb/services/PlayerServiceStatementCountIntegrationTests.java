@@ -0,0 +1,151 @@
+package com.ispydeer.footballteamdb.services;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PlayerServiceStatementCountIntegrationTests {
+
+    private static final int NUMBER_OF_PLAYERS = 5;
+
+    @Autowired
+    private PlayerService underTest;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> playerIds;
+
+    @Value("${footballdb.players.batch.chunk-size}")
+    private int batchChunkSize;
+
+    @BeforeEach
+    public void setUp() {
+        playerIds = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PLAYERS; i++) {
+            PlayerDto playerDto = TestDataCreator.createPlayerDtoLM();
+            playerDto.getClub().setName("Club " + i);
+            playerIds.add(underTest.createPlayer(playerDto).getId());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testThatRetrievingAllPlayersRunsOneStatement() {
+        List<PlayerDto> result = underTest.retrieveAllPlayers();
+
+        assertThat(result).hasSize(NUMBER_OF_PLAYERS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatRetrievingPlayersPageRunsOneStatement() {
+        List<PlayerDto> result = underTest.retrievePlayersPage(0, NUMBER_OF_PLAYERS);
+
+        assertThat(result).hasSize(NUMBER_OF_PLAYERS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatRetrievingPlayerByIdRunsOneStatement() {
+        PlayerDto result = underTest.retrievePlayerById(playerIds.get(0)).orElse(null);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getClub()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatPartiallyUpdatingPlayerLoadsAndWritesItOnce() {
+        PlayerDto result = underTest.partialUpdatePlayer(PlayerDto.builder().firstName("Leo").build(), playerIds.get(0))
+                .orElse(null);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getFirstName()).isEqualTo("Leo");
+        assertThat(statistics.getEntityStatistics(Player.class.getName()).getLoadCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+    }
+
+    @Test
+    public void testThatUpdatingMissingPlayerRunsOneStatement() {
+        PlayerDto playerDto = TestDataCreator.createPlayerDtoLM();
+
+        assertThat(underTest.fullUpdatePlayer(playerDto, -1L)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatTransferringPlayersRunsOneUpdateWithoutLoadingPlayers() {
+        long fromClubId = underTest.retrievePlayerById(playerIds.get(0)).orElseThrow().getClub().getId();
+        long toClubId = underTest.retrievePlayerById(playerIds.get(1)).orElseThrow().getClub().getId();
+        statistics.clear();
+
+        assertThat(underTest.transferPlayers(fromClubId, toClubId)).contains(1);
+        assertThat(statistics.getEntityStatistics(Player.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testThatDeletingPlayersByIdsRunsOneStatementPerChunk() {
+        assertThat(underTest.deletePlayersByIds(playerIds)).isEqualTo(NUMBER_OF_PLAYERS);
+        assertThat(statistics.getEntityStatistics(Player.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo((NUMBER_OF_PLAYERS + batchChunkSize - 1) / batchChunkSize);
+        assertThat(underTest.retrieveAllPlayers()).isEmpty();
+    }
+
+    @Test
+    public void testThatCreatingPlayerOfExistingClubDoesNotWriteClub() {
+        ClubDto clubDto = underTest.retrievePlayerById(playerIds.get(0)).orElseThrow().getClub();
+        clubDto.setName("Renamed");
+        statistics.clear();
+
+        PlayerDto playerDto = TestDataCreator.createPlayerDtoLM();
+        playerDto.setClub(clubDto);
+        PlayerDto result = underTest.createPlayer(playerDto);
+
+        assertThat(result.getClub().getId()).isEqualTo(clubDto.getId());
+        assertThat(result.getClub().getName()).isNotEqualTo("Renamed");
+        assertThat(statistics.getEntityStatistics(Player.class.getName()).getInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(Club.class.getName()).getInsertCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Club.class.getName()).getUpdateCount()).isZero();
+    }
+
+    @Test
+    public void testThatMovingPlayerToAnotherClubOnlyUpdatesPlayer() {
+        long toClubId = underTest.retrievePlayerById(playerIds.get(1)).orElseThrow().getClub().getId();
+        statistics.clear();
+
+        PlayerDto result = underTest.partialUpdatePlayer(
+                PlayerDto.builder().club(ClubDto.builder().id(toClubId).name("Renamed").build()).build(),
+                playerIds.get(0)).orElseThrow();
+
+        assertThat(result.getClub().getId()).isEqualTo(toClubId);
+        assertThat(result.getClub().getName()).isNotEqualTo("Renamed");
+        assertThat(statistics.getEntityStatistics(Player.class.getName()).getUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(Club.class.getName()).getUpdateCount()).isZero();
+    }
+}
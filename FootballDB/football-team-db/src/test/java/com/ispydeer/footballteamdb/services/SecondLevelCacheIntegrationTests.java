@@ -0,0 +1,120 @@
+package com.ispydeer.footballteamdb.services;
+
+import com.ispydeer.footballteamdb.domain.dto.ClubDto;
+import com.ispydeer.footballteamdb.domain.dto.PlayerDto;
+import com.ispydeer.footballteamdb.domain.entities.Club;
+import com.ispydeer.footballteamdb.domain.entities.Player;
+import com.ispydeer.footballteamdb.repositories.PlayerRepository;
+import com.ispydeer.footballteamdb.utilities.TestDataCreator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SecondLevelCacheIntegrationTests {
+
+    @Autowired
+    private ClubService clubService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testThatClubIsRetrievedFromCacheWithoutStatements() {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        statistics.clear();
+
+        clubService.retrieveClubById(id);
+        Optional<ClubDto> result = clubService.retrieveClubById(id);
+
+        assertThat(result).isPresent();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void testThatPartiallyUpdatedClubIsNotServedStale() {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        clubService.retrieveClubById(id);
+
+        clubService.partialUpdateClub(ClubDto.builder().name("Barca").build(), id);
+        ClubDto result = clubService.retrieveClubById(id).orElseThrow();
+
+        assertThat(result.getName()).isEqualTo("Barca");
+    }
+
+    @Test
+    public void testThatFullyUpdatedClubIsNotServedStale() {
+        ClubDto club = clubService.createClub(TestDataCreator.createClubDtoBarca());
+        clubService.retrieveClubById(club.getId());
+
+        club.setShortName("FCB1899");
+        clubService.createClub(club);
+        ClubDto result = clubService.retrieveClubById(club.getId()).orElseThrow();
+
+        assertThat(result.getShortName()).isEqualTo("FCB1899");
+    }
+
+    @Test
+    public void testThatDeletedClubIsEvicted() {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        clubService.retrieveClubById(id);
+
+        clubService.deleteClubById(id);
+
+        assertThat(clubService.retrieveClubById(id)).isEmpty();
+    }
+
+    @Test
+    public void testThatTrophyAdjustmentEvictsOnlyTheAdjustedClub() {
+        long id = clubService.createClub(TestDataCreator.createClubDtoBarca()).getId();
+        long otherId = clubService.createClub(TestDataCreator.createClubDtoRealMadrid()).getId();
+        clubService.retrieveClubById(id);
+        clubService.retrieveClubById(otherId);
+
+        clubService.addTotalTrophies(id, 1);
+
+        assertThat(entityManagerFactory.getCache().contains(Club.class, id)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Club.class, otherId)).isTrue();
+        assertThat(clubService.retrieveClubById(id).orElseThrow().getTotalTrophies()).isEqualTo(101);
+    }
+
+    @Test
+    public void testThatPlayerClubIsResolvedFromCache() {
+        PlayerDto player = playerService.createPlayer(TestDataCreator.createPlayerDtoLM());
+        statistics.clear();
+
+        Optional<Player> result = playerRepository.findById(player.getId());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getClub().getName()).isEqualTo(player.getClub().getName());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
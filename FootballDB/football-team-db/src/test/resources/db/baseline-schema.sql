@@ -0,0 +1,33 @@
+-- Schema and data of a database created by ddl-auto=update before the versioned migrations:
+-- no version columns, no player indexes and the constraint names generated by Hibernate.
+CREATE SEQUENCE club_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE player_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE club (
+    founding_date  DATE,
+    total_trophies INTEGER,
+    id             BIGINT NOT NULL,
+    name           VARCHAR(255),
+    short_name     VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE player (
+    birth_date DATE,
+    club_id    BIGINT,
+    id         BIGINT NOT NULL,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    position   VARCHAR(255) CHECK (position IN ('GOALKEEPER', 'DEFENDER', 'MIDFIELDER', 'STRIKER', 'WINGER')),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE IF EXISTS player ADD CONSTRAINT fkowbmjpn2l6k8tlw4d2dvgyrbb FOREIGN KEY (club_id) REFERENCES club;
+
+INSERT INTO club (id, name, short_name, founding_date, total_trophies)
+VALUES (1, 'FC Barcelona', 'FCB', DATE '1899-11-29', 100);
+INSERT INTO player (id, first_name, last_name, birth_date, position, club_id)
+VALUES (1, 'Lionel', 'Messi', DATE '1987-06-24', 'STRIKER', 1);
+-- the ids above were allocated from the first block of both sequences
+SELECT NEXT VALUE FOR club_seq;
+SELECT NEXT VALUE FOR player_seq;